@@ -1,6 +1,6 @@
 package com.prtec.auth.adapter.in.controller;
 
-import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
@@ -12,11 +12,13 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.prtec.auth.application.config.JwtProperties;
 import com.prtec.auth.application.service.AuthService;
 import com.prtec.auth.application.utils.AuthUtils;
 import com.prtec.auth.application.utils.JwtUtil;
 import com.prtec.auth.domain.model.dto.ApiResponseDTO;
 import com.prtec.auth.domain.model.dto.AuthRequest;
+import com.prtec.auth.domain.model.dto.TokenVerification;
 import com.prtec.auth.domain.model.entities.User;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,11 +41,13 @@ public class AuthController {
 	private final AuthService authService;
 	private final JwtUtil jwtUtil;
 	private final AuthUtils authUtils;
+	private final JwtProperties jwtProperties;
 
-	public AuthController(AuthService authService, JwtUtil jwtUtil, AuthUtils authUtils) {
+	public AuthController(AuthService authService, JwtUtil jwtUtil, AuthUtils authUtils, JwtProperties jwtProperties) {
 		this.authService = authService;
 		this.jwtUtil = jwtUtil;
 		this.authUtils = authUtils;
+		this.jwtProperties = jwtProperties;
 	}
 
 	@Operation(summary = "Registrar un nuevo usuario")
@@ -156,18 +160,11 @@ public class AuthController {
 								null));
 			}
 
-			String username = jwtUtil.getUsernameFromToken(token);
-			boolean isValid = jwtUtil.isTokenValid(token, username);
-			boolean isRefreshToken = jwtUtil.isRefreshToken(token);
-			Date expiration = jwtUtil.getExpirationFromToken(token);
+			// Una sola lectura del token para validar firma, expiración y tipo
+			TokenVerification verification = jwtUtil.verifyToken(token);
+			Map<String, Object> tokenInfo = verification.hasClaims() ? verification.toResponseData() : null;
 
-			Map<String, Object> tokenInfo = Map.of(
-					"valid", isValid,
-					"isRefreshToken", isRefreshToken,
-					"username", username,
-					"expiration", expiration);
-
-			if (isValid) {
+			if (verification.valid()) {
 				return ResponseEntity.ok(new ApiResponseDTO<>(
 						ApiResponseDTO.Status.SUCCESS,
 						"Token válido",
@@ -188,6 +185,33 @@ public class AuthController {
 		}
 	}
 
+	@Operation(summary = "Verificar varios tokens JWT en una sola solicitud")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Resultado por token, en el mismo orden recibido", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class)) }),
+			@ApiResponse(responseCode = "400", description = "Lista vacía o con más tokens de los permitidos", content = {
+					@Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class)) })
+	})
+	@PostMapping("/verify/batch")
+	public ResponseEntity<ApiResponseDTO<List<Map<String, Object>>>> verifyTokens(@RequestBody List<String> tokens) {
+		if (tokens == null || tokens.isEmpty() || tokens.size() > jwtProperties.getVerifyBatchMaxSize()) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+					.body(new ApiResponseDTO<>(
+							ApiResponseDTO.Status.ERROR,
+							"Se esperan entre 1 y " + jwtProperties.getVerifyBatchMaxSize() + " tokens",
+							null));
+		}
+
+		List<Map<String, Object>> results = jwtUtil.verifyTokens(tokens).stream()
+				.map(TokenVerification::toResponseData)
+				.toList();
+
+		return ResponseEntity.ok(new ApiResponseDTO<>(
+				ApiResponseDTO.Status.SUCCESS,
+				"Tokens verificados",
+				results));
+	}
+
 	private ResponseEntity<ApiResponseDTO<User>> getRegistrationErrorResponse() {
 		ApiResponseDTO<User> response = new ApiResponseDTO<>(
 				ApiResponseDTO.Status.ERROR,
@@ -0,0 +1,115 @@
+package com.prtec.auth.application.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.prtec.auth.application.config.UserCacheProperties;
+import com.prtec.auth.domain.model.entities.User;
+
+/**
+ * Cache acotado de usuarios (con sus roles) usado por el filtro JWT.
+ *
+ * <p>Evita la consulta a la base de datos que el filtro JWT hacía en cada solicitud
+ * autenticada. Se guarda una copia sin contraseña: el login no usa este cache y
+ * siempre valida contra la base de datos. Las entradas expiran por ttl y se
+ * invalidan explícitamente cuando UserService guarda un usuario.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+
+    private final Cache<String, CachedUser> cache;
+    // Índice id -> username para invalidar por id sin recorrer el cache
+    private final Map<Long, String> usernamesById = new ConcurrentHashMap<>();
+
+    public UserDetailsCache(UserCacheProperties properties) {
+        this.cache = properties.isEnabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                // El listener se ejecuta en el mismo hilo para que el índice no quede atrás
+                .executor(Runnable::run)
+                .removalListener((String username, CachedUser user, RemovalCause cause) -> {
+                    if (username != null && user != null && user.id() != null) {
+                        usernamesById.remove(user.id(), username);
+                    }
+                })
+                .build()
+            : null;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (cache == null) {
+            return null;
+        }
+        CachedUser user = cache.getIfPresent(username);
+        return user == null ? null : user.details();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (cache != null) {
+            Long id = user instanceof User entity ? entity.getId() : null;
+            cache.put(user.getUsername(), new CachedUser(id, withoutCredentials(user)));
+            if (id != null) {
+                usernamesById.put(id, user.getUsername());
+            }
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        if (cache != null && username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    /**
+     * Metodo para invalidar un usuario por su id, útil cuando cambia el username
+     *
+     * @param userId
+     */
+    public void removeUserFromCache(Long userId) {
+        if (cache != null && userId != null) {
+            String username = usernamesById.remove(userId);
+            if (username != null) {
+                cache.invalidate(username);
+            }
+        }
+    }
+
+    /**
+     * Metodo para consultar el número aproximado de usuarios en el cache
+     *
+     * @return long
+     */
+    public long size() {
+        if (cache == null) {
+            return 0;
+        }
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    // Copia con los roles y el estado de la cuenta, sin la contraseña
+    private static UserDetails withoutCredentials(UserDetails user) {
+        return org.springframework.security.core.userdetails.User.withUsername(user.getUsername())
+            .password("")
+            .authorities(user.getAuthorities())
+            .accountExpired(!user.isAccountNonExpired())
+            .accountLocked(!user.isAccountNonLocked())
+            .credentialsExpired(!user.isCredentialsNonExpired())
+            .disabled(!user.isEnabled())
+            .build();
+    }
+
+    private record CachedUser(Long id, UserDetails details) {
+    }
+}
@@ -13,4 +13,6 @@ import lombok.Setter;
 public class JwtProperties {
     private String secret;
     private long expirationTimeMinutes;
+    // Número máximo de tokens por solicitud en /api/verify/batch
+    private int verifyBatchMaxSize = 100;
 }
\ No newline at end of file
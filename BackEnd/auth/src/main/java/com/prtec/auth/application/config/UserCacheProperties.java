@@ -0,0 +1,28 @@
+package com.prtec.auth.application.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades del cache de usuarios autenticados (custom.security.user-cache)
+ *
+ * <ul>
+ * <li>enabled: si es false cada solicitud consulta el usuario en la base de datos.</li>
+ * <li>maxSize: número máximo de usuarios en memoria.</li>
+ * <li>ttl: tiempo máximo que un usuario permanece en el cache desde que se cargó.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "custom.security.user-cache")
+public class UserCacheProperties {
+    private boolean enabled = true;
+    private long maxSize = 1_000;
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -4,6 +4,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.prtec.auth.adapter.out.repository.IUserRepository;
+import com.prtec.auth.application.cache.UserDetailsCache;
 import com.prtec.auth.domain.model.entities.User;
 
 import jakarta.transaction.Transactional;
@@ -20,16 +21,23 @@ import java.util.Optional;
 @Transactional
 public class UserService {
     private final IUserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-    public UserService(IUserRepository userRepository) {
+    public UserService(IUserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     public User saveUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+
+        // El usuario pudo cambiar de username o roles
+        userDetailsCache.removeUserFromCache(savedUser.getId());
+        userDetailsCache.removeUserFromCache(savedUser.getUsername());
+        return savedUser;
     }
 
     public Optional<User> findByUsername(String username) {
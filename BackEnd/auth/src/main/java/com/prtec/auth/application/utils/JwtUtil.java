@@ -2,6 +2,7 @@ package com.prtec.auth.application.utils;
 
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -17,8 +18,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.prtec.auth.application.config.JwtProperties;
+import com.prtec.auth.domain.model.dto.TokenVerification;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -26,7 +31,7 @@ import io.jsonwebtoken.security.Keys;
 /**
  * Utilidad para trabajar con JWT
  * @author Edgar Martinez
- * @version 1.1
+ * @version 1.2
  */
 @Component
 public class JwtUtil {
@@ -34,6 +39,8 @@ public class JwtUtil {
     private static final String TOKEN_TYPE = "tokenType";
     
     private final SecretKey key;
+    // Parser inmutable y seguro entre hilos, se construye una sola vez
+    private final JwtParser parser;
     private final long expirationTime;
     private final long refreshTokenExpirationTime;
     
@@ -44,6 +51,7 @@ public class JwtUtil {
     @Autowired
     public JwtUtil(JwtProperties jwtProperties) {
         this.key = getSecretKey(jwtProperties.getSecret());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.expirationTime = jwtProperties.getExpirationTimeMinutes() * 60 * 1000; // Convertir a milisegundos
         this.refreshTokenExpirationTime = jwtProperties.getExpirationTimeMinutes() * 60 * 1000 * 24 * 7; // 7 días
         logger.info("JWT Service: Inicialización con {} minutos para expiración de tokens.", jwtProperties.getExpirationTimeMinutes());
@@ -57,6 +65,7 @@ public class JwtUtil {
      */
     public JwtUtil(String jwtSecret, long expirationTimeMinutes) {
         this.key = getSecretKey(jwtSecret);
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.expirationTime = expirationTimeMinutes * 60 * 1000; // Convertir a milisegundos
         this.refreshTokenExpirationTime = expirationTimeMinutes * 60 * 1000 * 24 * 7; // 7 días
         logger.info("JWT Service: Inicialización con {} minutos para expiracion de tokens.", expirationTimeMinutes);
@@ -117,11 +126,7 @@ public class JwtUtil {
      * @return
      */
     public Claims getPayloadFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -159,13 +164,19 @@ public class JwtUtil {
      * @return List<GrantedAuthority>
      */
     public List<GrantedAuthority> getRolesFromToken(String token) {
-        List<?> roles = getPayloadFromToken(token).get("roles", List.class);
-    
+        return getRoles(getPayloadFromToken(token)).stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                    .collect(Collectors.toList());
+    }
+
+    private static List<String> getRoles(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+
         return roles == null ? Collections.emptyList() :
                 roles.stream()
                     .filter(String.class::isInstance)
-                    .map(role -> new SimpleGrantedAuthority((String) role))
-                    .collect(Collectors.toList());
+                    .map(String.class::cast)
+                    .toList();
     }
     
     /**
@@ -211,7 +222,50 @@ public class JwtUtil {
      * @return verdadero si es un refresh token
      */
     public boolean isRefreshToken(String token) {
-        Claims claims = getPayloadFromToken(token);
-        return claims.get(TOKEN_TYPE) != null && claims.get(TOKEN_TYPE).equals("refresh");
+        return isRefreshToken(getPayloadFromToken(token));
+    }
+
+    private static boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get(TOKEN_TYPE));
+    }
+
+    /**
+     * Metodo para verificar un token leyendo sus claims una sola vez
+     * (firma, expiración, usuario y tipo de token).
+     * 
+     * @param token
+     * @return TokenVerification, {@link TokenVerification#INVALID} si el token no se puede leer
+     */
+    public TokenVerification verifyToken(String token) {
+        try {
+            Claims claims = getPayloadFromToken(token);
+            return new TokenVerification(claims.getSubject() != null, isRefreshToken(claims),
+                    claims.getSubject(), claims.getExpiration(), getRoles(claims));
+        } catch (ExpiredJwtException e) {
+            // La firma es válida pero el token expiró, se informan sus datos
+            Claims claims = e.getClaims();
+            logger.info("Token expirado.");
+            return new TokenVerification(false, isRefreshToken(claims), claims.getSubject(), claims.getExpiration(),
+                    getRoles(claims));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("No se pudo validar el token: {}", e.getMessage());
+            return TokenVerification.INVALID;
+        }
+    }
+
+    /**
+     * Metodo para verificar varios tokens en una sola llamada. Los tokens repetidos
+     * se verifican una sola vez.
+     * 
+     * @param tokens
+     * @return resultados en el mismo orden de los tokens recibidos
+     */
+    public List<TokenVerification> verifyTokens(List<String> tokens) {
+        Map<String, TokenVerification> verified = new HashMap<>();
+        return tokens.stream()
+                .map(token -> token == null || token.isEmpty()
+                        ? TokenVerification.INVALID
+                        : verified.computeIfAbsent(token, this::verifyToken))
+                .toList();
     }
 }
\ No newline at end of file
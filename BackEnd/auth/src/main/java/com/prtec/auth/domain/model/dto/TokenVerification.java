@@ -0,0 +1,52 @@
+package com.prtec.auth.domain.model.dto;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de verificar un token con una sola lectura de sus claims.
+ *
+ * @param valid          true si la firma es correcta y el token no expiró
+ * @param refreshToken   true si el token es un refresh token
+ * @param username       usuario del token, null si no se pudo leer
+ * @param expiration     fecha de expiración, null si no se pudo leer
+ * @param roles          roles del token, vacío si no se pudo leer
+ */
+public record TokenVerification(boolean valid, boolean refreshToken, String username, Date expiration,
+        List<String> roles) {
+
+    /**
+     * Resultado para tokens que no se pudieron leer (firma inválida o formato incorrecto).
+     */
+    public static final TokenVerification INVALID = new TokenVerification(false, false, null, null, List.of());
+
+    public TokenVerification {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    /**
+     * Metodo para saber si se pudieron leer los claims del token
+     *
+     * @return boolean
+     */
+    public boolean hasClaims() {
+        return username != null;
+    }
+
+    /**
+     * Metodo para construir la respuesta del endpoint /api/verify
+     *
+     * @return Map con valid, isRefreshToken, username, expiration y roles
+     */
+    public Map<String, Object> toResponseData() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("valid", valid);
+        data.put("isRefreshToken", refreshToken);
+        data.put("username", username);
+        data.put("expiration", expiration);
+        data.put("roles", roles);
+        return data;
+    }
+}
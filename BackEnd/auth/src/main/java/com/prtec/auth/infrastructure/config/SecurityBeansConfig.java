@@ -2,8 +2,10 @@ package com.prtec.auth.infrastructure.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.CachingUserDetailsService;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,6 +14,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.prtec.auth.adapter.out.repository.IUserRepository;
+import com.prtec.auth.application.cache.UserDetailsCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,13 +23,14 @@ import lombok.RequiredArgsConstructor;
  * la configuración de seguridad, servicios JWT y cualquier otro componente necesario.
  *
  * @author Edgar Andres
- * @version 1.0
+ * @version 1.1
  */
 @Configuration
 @RequiredArgsConstructor
 public class SecurityBeansConfig {
 
     private final IUserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
@@ -46,10 +50,26 @@ public class SecurityBeansConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * UserDetailsService del login: siempre consulta la base de datos, así la
+     * contraseña se valida contra el valor vigente.
+     */
     @Bean
+    @Primary
     public UserDetailsService userDetailService() {
         return username -> userRepository.findByUsername(username)
             .orElseThrow(()-> new UsernameNotFoundException("No se encontró el usuario."));
     }
 
+    /**
+     * UserDetailsService del filtro JWT: solo consulta la base de datos cuando el
+     * usuario no está en memoria. El cache guarda una copia sin contraseña.
+     */
+    @Bean
+    public UserDetailsService jwtUserDetailsService() {
+        CachingUserDetailsService cachingService = new CachingUserDetailsService(userDetailService());
+        cachingService.setUserCache(userDetailsCache);
+        return cachingService;
+    }
+
 }
\ No newline at end of file
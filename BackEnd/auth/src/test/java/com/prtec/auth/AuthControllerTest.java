@@ -4,16 +4,20 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.prtec.auth.adapter.in.controller.AuthController;
+import com.prtec.auth.application.config.JwtProperties;
 import com.prtec.auth.application.service.AuthService;
 import com.prtec.auth.application.utils.AuthUtils;
 import com.prtec.auth.application.utils.JwtUtil;
 import com.prtec.auth.domain.model.dto.ApiResponseDTO;
 import com.prtec.auth.domain.model.dto.AuthRequest;
+import com.prtec.auth.domain.model.dto.TokenVerification;
 import com.prtec.auth.domain.model.entities.User;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -42,6 +47,9 @@ class AuthControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Spy
+    private JwtProperties jwtProperties = new JwtProperties();
+
     private String authHeader;
 
     @BeforeEach
@@ -159,4 +167,67 @@ class AuthControllerTest {
         assertEquals("ERROR", response.getBody().getStatus().toString());
         assertEquals("Credenciales incorrectas", response.getBody().getMessage());
     }
+
+    @Test
+    void testVerifyToken_Valid() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        when(jwtUtil.verifyToken("validToken")).thenReturn(new TokenVerification(true, false, "testuser", expiration, List.of("USER")));
+
+        ResponseEntity<ApiResponseDTO<Map<String, Object>>> response = authController.verifyToken("validToken");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(true, response.getBody().getData().get("valid"));
+        assertEquals("testuser", response.getBody().getData().get("username"));
+        assertEquals(expiration, response.getBody().getData().get("expiration"));
+        verify(jwtUtil, times(1)).verifyToken("validToken");
+        verifyNoMoreInteractions(jwtUtil);
+    }
+
+    @Test
+    void testVerifyToken_Expired() {
+        when(jwtUtil.verifyToken("expiredToken"))
+                .thenReturn(new TokenVerification(false, false, "testuser", new Date(0), null));
+
+        ResponseEntity<ApiResponseDTO<Map<String, Object>>> response = authController.verifyToken("expiredToken");
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals(false, response.getBody().getData().get("valid"));
+    }
+
+    @Test
+    void testVerifyToken_Invalid() {
+        when(jwtUtil.verifyToken("invalidToken")).thenReturn(TokenVerification.INVALID);
+
+        ResponseEntity<ApiResponseDTO<Map<String, Object>>> response = authController.verifyToken("invalidToken");
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("ERROR", response.getBody().getStatus().toString());
+        assertNull(response.getBody().getData());
+    }
+
+    @Test
+    void testVerifyTokens_Batch() {
+        when(jwtUtil.verifyTokens(List.of("validToken", "invalidToken"))).thenReturn(List.of(
+                new TokenVerification(true, false, "testuser", new Date(), List.of("USER")),
+                TokenVerification.INVALID));
+
+        ResponseEntity<ApiResponseDTO<List<Map<String, Object>>>> response = authController
+                .verifyTokens(List.of("validToken", "invalidToken"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<Map<String, Object>> results = response.getBody().getData();
+        assertEquals(2, results.size());
+        assertEquals(true, results.get(0).get("valid"));
+        assertEquals(List.of("USER"), results.get(0).get("roles"));
+        assertEquals(false, results.get(1).get("valid"));
+    }
+
+    @Test
+    void testVerifyTokens_InvalidBatchSize() {
+        jwtProperties.setVerifyBatchMaxSize(2);
+
+        assertEquals(HttpStatus.BAD_REQUEST, authController.verifyTokens(List.of()).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, authController.verifyTokens(List.of("a", "b", "c")).getStatusCode());
+        verifyNoInteractions(jwtUtil);
+    }
 }
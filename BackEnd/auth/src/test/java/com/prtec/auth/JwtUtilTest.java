@@ -2,6 +2,7 @@ package com.prtec.auth;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -12,6 +13,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.GrantedAuthority;
 
 import com.prtec.auth.application.utils.JwtUtil;
+import com.prtec.auth.domain.model.dto.TokenVerification;
 
 import io.jsonwebtoken.Claims;
 
@@ -84,4 +86,57 @@ class JwtUtilTest {
         assertTrue(jwtUtil.isTokenValid(token, "testUser"));
         assertFalse(jwtUtil.isTokenValid(token, "wrongUser"));
     }
+
+    @Test
+    void testVerifyToken() {
+        String token = jwtUtil.createToken(Map.of(), "testUser");
+
+        TokenVerification verification = jwtUtil.verifyToken(token);
+
+        assertTrue(verification.valid());
+        assertFalse(verification.refreshToken());
+        assertEquals("testUser", verification.username());
+        assertEquals(jwtUtil.getExpirationFromToken(token), verification.expiration());
+    }
+
+    @Test
+    void testVerifyRefreshToken() {
+        TokenVerification verification = jwtUtil.verifyToken(jwtUtil.createRefreshToken(Map.of(), "testUser"));
+
+        assertTrue(verification.valid());
+        assertTrue(verification.refreshToken());
+    }
+
+    @Test
+    void testVerifyExpiredToken() {
+        JwtUtil expiredJwtUtil = new JwtUtil(jwtSecret, -1);
+
+        TokenVerification verification = jwtUtil.verifyToken(expiredJwtUtil.createToken(Map.of(), "testUser"));
+
+        assertFalse(verification.valid());
+        assertEquals("testUser", verification.username());
+        assertNotNull(verification.expiration());
+    }
+
+    @Test
+    void testVerifyTokenWithForeignSignature() {
+        JwtUtil otherJwtUtil = new JwtUtil("otraclavecompletamentedistintaparafirmartokens", expirationTimeMinutes);
+
+        assertSame(TokenVerification.INVALID, jwtUtil.verifyToken(otherJwtUtil.createToken(Map.of(), "testUser")));
+        assertSame(TokenVerification.INVALID, jwtUtil.verifyToken("invalid-token"));
+    }
+
+    @Test
+    void testVerifyTokens() {
+        String token = jwtUtil.createToken(Map.of("roles", List.of("USER")), "testUser");
+
+        List<TokenVerification> results = jwtUtil.verifyTokens(Arrays.asList(token, "invalid-token", null, token));
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).valid());
+        assertEquals(List.of("USER"), results.get(0).roles());
+        assertSame(TokenVerification.INVALID, results.get(1));
+        assertSame(TokenVerification.INVALID, results.get(2));
+        assertSame(results.get(0), results.get(3));
+    }
 }
@@ -0,0 +1,130 @@
+package com.prtec.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.prtec.auth.adapter.out.repository.IUserRepository;
+import com.prtec.auth.application.cache.UserDetailsCache;
+import com.prtec.auth.application.config.UserCacheProperties;
+import com.prtec.auth.domain.model.entities.Role;
+import com.prtec.auth.domain.model.entities.User;
+import com.prtec.auth.infrastructure.config.SecurityBeansConfig;
+
+class UserDetailsCacheTest {
+
+    @Test
+    void testLoadUserByUsernameHitsRepositoryOnce() {
+        IUserRepository userRepository = mock(IUserRepository.class);
+        User user = newUser(1L, "testUser");
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(user));
+
+        UserDetailsService service = jwtService(userRepository, new UserDetailsCache(new UserCacheProperties()));
+
+        assertSame(user, service.loadUserByUsername("testUser"));
+        for (int i = 0; i < 5; i++) {
+            UserDetails cached = service.loadUserByUsername("testUser");
+            assertEquals("testUser", cached.getUsername());
+            assertEquals(user.getAuthorities().size(), cached.getAuthorities().size());
+        }
+        verify(userRepository, times(1)).findByUsername("testUser");
+    }
+
+    @Test
+    void testCachedUserHasNoPassword() {
+        UserDetailsCache cache = new UserDetailsCache(new UserCacheProperties());
+        cache.putUserInCache(newUser(1L, "testUser"));
+
+        UserDetails cached = cache.getUserFromCache("testUser");
+        assertEquals("", cached.getPassword());
+        assertTrue(cached.isEnabled());
+        assertEquals(List.of("USER"), cached.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void testLoginServiceIsNotCached() {
+        IUserRepository userRepository = mock(IUserRepository.class);
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(newUser(1L, "testUser")));
+        UserDetailsCache cache = new UserDetailsCache(new UserCacheProperties());
+        SecurityBeansConfig config = new SecurityBeansConfig(userRepository, cache);
+
+        config.jwtUserDetailsService().loadUserByUsername("testUser");
+        UserDetails login = config.userDetailService().loadUserByUsername("testUser");
+
+        // El login recibe la entidad con la contraseña vigente, no la copia del cache
+        assertEquals("password123", login.getPassword());
+        verify(userRepository, times(2)).findByUsername("testUser");
+    }
+
+    @Test
+    void testRemoveUserFromCacheById() {
+        UserDetailsCache cache = new UserDetailsCache(new UserCacheProperties());
+        cache.putUserInCache(newUser(1L, "testUser"));
+        cache.putUserInCache(newUser(2L, "otherUser"));
+
+        cache.removeUserFromCache(1L);
+
+        assertNull(cache.getUserFromCache("testUser"));
+        assertNotNull(cache.getUserFromCache("otherUser"));
+    }
+
+    @Test
+    void testRemoveUserFromCacheByUsername() {
+        UserDetailsCache cache = new UserDetailsCache(new UserCacheProperties());
+        cache.putUserInCache(newUser(1L, "testUser"));
+
+        cache.removeUserFromCache("testUser");
+
+        assertNull(cache.getUserFromCache("testUser"));
+    }
+
+    @Test
+    void testCacheIsBoundedAndExpires() {
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setMaxSize(2);
+        UserDetailsCache boundedCache = new UserDetailsCache(properties);
+        for (long i = 0; i < 10; i++) {
+            boundedCache.putUserInCache(newUser(i, "user" + i));
+        }
+        assertTrue(boundedCache.size() <= 2);
+
+        UserCacheProperties expiring = new UserCacheProperties();
+        expiring.setTtl(Duration.ZERO);
+        UserDetailsCache expiringCache = new UserDetailsCache(expiring);
+        expiringCache.putUserInCache(newUser(1L, "testUser"));
+        assertNull(expiringCache.getUserFromCache("testUser"));
+    }
+
+    @Test
+    void testDisabledCache() {
+        IUserRepository userRepository = mock(IUserRepository.class);
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(newUser(1L, "testUser")));
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setEnabled(false);
+
+        UserDetailsService service = jwtService(userRepository, new UserDetailsCache(properties));
+        service.loadUserByUsername("testUser");
+        service.loadUserByUsername("testUser");
+
+        verify(userRepository, times(2)).findByUsername("testUser");
+    }
+
+    private static UserDetailsService jwtService(IUserRepository userRepository, UserDetailsCache cache) {
+        return new SecurityBeansConfig(userRepository, cache).jwtUserDetailsService();
+    }
+
+    private static User newUser(Long id, String username) {
+        User user = new User(id, username, "password123");
+        user.setRoles(List.of(new Role("USER")));
+        return user;
+    }
+}
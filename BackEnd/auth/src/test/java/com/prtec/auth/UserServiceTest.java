@@ -10,6 +10,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.prtec.auth.adapter.out.repository.IUserRepository;
+import com.prtec.auth.application.cache.UserDetailsCache;
 import com.prtec.auth.application.service.UserService;
 import com.prtec.auth.domain.model.entities.User;
 
@@ -22,6 +23,9 @@ class UserServiceTest {
     @Mock
     private IUserRepository userRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @Test
     void testFindUserById() {
         Long userId = 1L;
@@ -42,5 +46,7 @@ class UserServiceTest {
         User result = userService.saveUser(user);
         assertNotNull(result);
         assertEquals("newUser", result.getUsername());
+        verify(userDetailsCache).removeUserFromCache(1L);
+        verify(userDetailsCache).removeUserFromCache("newUser");
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.prtec.auth.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.prtec.auth.application.utils.JwtUtil;
+import com.prtec.auth.domain.model.dto.TokenVerification;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Comparación del costo por llamada de /api/verify: la versión anterior leía el token
+ * cuatro veces (usuario, validez, tipo y expiración), construyendo un parser en cada
+ * lectura; {@link JwtUtil#verifyToken(String)} lo lee una sola vez con un parser reutilizado.
+ *
+ * <p>Ejecutar con el perfilador de memoria para ver las asignaciones por llamada:
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TokenVerificationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerificationBenchmark {
+    private static final String SECRET = "misuperarchirencontrahipermegaextremaclavee";
+
+    private JwtUtil jwtUtil;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = jwtUtil.createToken(Map.of("userId", 1L, "roles", List.of("USER", "ADMIN")), "admin");
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyVerify() {
+        String username = legacyPayload(token).getSubject();
+        Claims payload = legacyPayload(token);
+        boolean isValid = !payload.getExpiration().before(new Date()) && payload.getSubject().equals(username);
+        Claims typeClaims = legacyPayload(token);
+        boolean isRefreshToken = typeClaims.get("tokenType") != null && typeClaims.get("tokenType").equals("refresh");
+        Date expiration = legacyPayload(token).getExpiration();
+
+        return Map.of("valid", isValid, "isRefreshToken", isRefreshToken, "username", username,
+                "expiration", expiration);
+    }
+
+    @Benchmark
+    public Map<String, Object> singleParseVerify() {
+        TokenVerification verification = jwtUtil.verifyToken(token);
+        return verification.toResponseData();
+    }
+
+    /**
+     * Copia de JwtUtil.getPayloadFromToken antes de reutilizar el parser.
+     */
+    private Claims legacyPayload(String token) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -1,22 +1,45 @@
 package com.prtec.tasks.adapter.in.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.prtec.tasks.application.service.TaskService;
 import com.prtec.tasks.application.service.UserDetailsService;
 import com.prtec.tasks.application.utils.AuthUtils;
-import com.prtec.tasks.application.utils.JwtUtil;
+import com.prtec.tasks.application.utils.TaskExportWriter;
+import com.prtec.tasks.application.utils.TaskSort;
+import com.prtec.tasks.application.exceptions.TaskNotFoundException;
+import com.prtec.tasks.application.exceptions.TokenException;
 import com.prtec.tasks.domain.model.dto.ApiResponseDTO;
+import com.prtec.tasks.domain.model.dto.CursorPage;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
+import com.prtec.tasks.domain.model.dto.PageResponse;
+import com.prtec.tasks.domain.model.dto.TaskBatchGetResponse;
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
 import com.prtec.tasks.domain.model.entity.Task;
 import com.prtec.tasks.domain.model.entity.UserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,17 +47,22 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/tasks")
 @Tag(name = "Task Controller", description = "Controlador para la gestión de tareas.")
 public class TaskController {
-	private static final String BEARER_PREFIX = "Bearer ";
 	private static final String MSG_TASK_NOT_FOUND = "Tarea no encontrada";
+	private static final int MAX_SCROLL_SIZE = 100;
+	private static final int MAX_SEARCH_SIZE = 100;
+	private static final String INCLUDE_TOTAL_DESCRIPTION = "false para omitir el total (totalElements/totalPages) y la consulta COUNT";
+	private static final long COUNT_MAX_AGE_SECONDS = 30;
+	private static final int MAX_BULK_SIZE = 10_000;
+	private static final String MSG_BULK_SIZE = "Se esperan entre 1 y " + MAX_BULK_SIZE + " elementos";
+	private static final int MAX_BATCH_GET_SIZE = 100;
+	private static final String MSG_BATCH_GET_SIZE = "Se esperan entre 1 y " + MAX_BATCH_GET_SIZE + " ids";
+	private static final ObjectWriter ERROR_WRITER = new ObjectMapper().writerFor(ApiResponseDTO.class);
 	private final TaskService taskService;
 	private final AuthUtils authUtils;
-	private final JwtUtil jwtUtil;
 	private final UserDetailsService userDetailsService;
 
-	public TaskController(AuthUtils authUtils, JwtUtil jwtUtil, TaskService taskService,
-			UserDetailsService userDetailsService) {
+	public TaskController(AuthUtils authUtils, TaskService taskService, UserDetailsService userDetailsService) {
 		this.authUtils = authUtils;
-		this.jwtUtil = jwtUtil;
 		this.taskService = taskService;
 		this.userDetailsService = userDetailsService;
 	}
@@ -56,11 +84,9 @@ public class TaskController {
 					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, tokenResponse.getBody(), null));
 		}
 
-		String token = tokenResponse.getBody();
-		Long userId = jwtUtil.getUserIdFromToken(token);
-		String username = jwtUtil.getUsernameFromToken(token);
+		JwtPrincipal principal = authUtils.getPrincipal(authHeader);
 
-		UserDetails userDetails = userDetailsService.findOrCreateUser(userId, username);
+		UserDetails userDetails = userDetailsService.findOrCreateUser(principal.userId(), principal.username());
 		task.setUserDetails(userDetails);
 		Task createdTask = taskService.createTask(task);
 		return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea creada", createdTask));
@@ -78,22 +104,57 @@ public class TaskController {
 			@RequestHeader("Authorization") String authHeader,
 			@PathVariable Long id,
 			@RequestBody Task task) {
-		// Verificar que la tarea pertenece al usuario autenticado
-		if (!authUtils.isTaskOwnedByUser(authHeader, id, taskService, true)) {
-			// Si el usuario no es el propietario de la tarea
+		String unauthorizedMessage = "No autorizado para actualizar esta tarea";
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "No autorizado para actualizar esta tarea",
-							null));
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
+		}
+
+		// La tarea se carga con el filtro de dueño: autorización y lectura en una
+		// sola consulta
+		return taskService.updateTask(id, ownerId, task)
+				.map(updatedTask -> ResponseEntity
+						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea actualizada", updatedTask)))
+				.orElseGet(() -> taskNotFoundOrUnauthorized(id, unauthorizedMessage));
+	}
+
+	@Operation(summary = "Actualizar solo algunos campos de una tarea", description = "Los campos ausentes conservan su valor. Un null explícito borra description o dueDate; en title, status y priority se ignora. Devuelve el número de tareas actualizadas.", responses = {
+			@ApiResponse(responseCode = "200", description = "Tarea actualizada exitosamente", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Sin campos a actualizar o título vacío", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "404", description = MSG_TASK_NOT_FOUND, content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@PatchMapping("/{id}")
+	public ResponseEntity<ApiResponseDTO<Integer>> patchTask(
+			@RequestHeader("Authorization") String authHeader,
+			@PathVariable Long id,
+			@RequestBody TaskPatchDTO patch) {
+		String unauthorizedMessage = "No autorizado para actualizar esta tarea";
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
 		}
 
-		// Si la validación pasa, se actualiza la tarea
-		Task updatedTask = taskService.updateTask(id, task);
-		return updatedTask != null
-				? ResponseEntity
-						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea actualizada", updatedTask))
-				: ResponseEntity.status(HttpStatus.NOT_FOUND)
-						.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR,
-								"Ocurrio un error al actualizar la tarea.", null));
+		// Un solo UPDATE con el dueño en el WHERE, sin leer la tarea antes
+		int updated;
+		try {
+			updated = taskService.patchTask(id, ownerId, patch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+		if (updated == 0) {
+			return taskNotFoundOrUnauthorized(id, unauthorizedMessage);
+		}
+		return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea actualizada", updated));
 	}
 
 	@Operation(summary = "Eliminar una tarea por ID", responses = {
@@ -106,34 +167,148 @@ public class TaskController {
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponseDTO<Void>> deleteTask(
 			@RequestHeader("Authorization") String authHeader, @PathVariable Long id) {
-		// Verificar que la tarea pertenece al usuario autenticado
-		if (!authUtils.isTaskOwnedByUser(authHeader, id, taskService, true)) {
-			// Si el usuario no es el propietario de la tarea
+		String unauthorizedMessage = "No autorizado para borrar esta tarea";
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "No autorizado para borrar esta tarea",
-							null));
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
 		}
 
-		boolean isDeleted = taskService.deleteTask(id);
+		// Un solo DELETE con el filtro de dueño
+		boolean isDeleted = taskService.deleteTask(id, ownerId);
 		if (isDeleted) {
 			return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea eliminada", null));
 		} else {
-			return ResponseEntity.status(HttpStatus.NOT_FOUND)
-					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_TASK_NOT_FOUND, null));
+			return taskNotFoundOrUnauthorized(id, unauthorizedMessage);
+		}
+	}
+
+	@Operation(summary = "Crear varias tareas del usuario en una sola solicitud", responses = {
+			@ApiResponse(responseCode = "200", description = "Tareas creadas, devuelve los ids en el orden recibido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Lista vacía, demasiado grande o con tareas inválidas", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@PostMapping("/bulk")
+	public ResponseEntity<ApiResponseDTO<List<Long>>> createTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestBody List<Task> tasks) {
+		JwtPrincipal principal = authUtils.getPrincipal(authHeader);
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "Token no autorizado.", null));
+		}
+
+		if (tasks == null || tasks.isEmpty() || tasks.size() > MAX_BULK_SIZE) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_BULK_SIZE, null));
+		}
+
+		try {
+			UserDetails userDetails = userDetailsService.findOrCreateUser(principal.userId(), principal.username());
+			List<Long> ids = taskService.createTasks(tasks, userDetails);
+			return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tareas creadas", ids));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+	}
+
+	@Operation(summary = "Actualizar varias tareas en una sola solicitud", description = "Cada elemento lleva el id y los campos a cambiar; los campos ausentes o null conservan su valor. Si alguna tarea no existe o no es del usuario no se actualiza ninguna.", responses = {
+			@ApiResponse(responseCode = "200", description = "Tareas actualizadas, devuelve cuántas se actualizaron", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Lista vacía, demasiado grande, tareas sin id o con título vacío", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado para alguna de las tareas", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@PatchMapping("/bulk")
+	public ResponseEntity<ApiResponseDTO<Integer>> updateTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestBody List<Task> tasks) {
+		if (tasks == null || tasks.isEmpty() || tasks.size() > MAX_BULK_SIZE) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_BULK_SIZE, null));
+		}
+		if (tasks.stream().anyMatch(task -> task == null || task.getId() == null)) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "Todas las tareas deben incluir el id.",
+							null));
+		}
+
+		String unauthorizedMessage = "No autorizado para actualizar estas tareas";
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
+		}
+
+		// Las tareas se cargan con el dueño en el WHERE, en la misma transacción que
+		// las actualiza
+		try {
+			int updated = taskService.updateTasks(tasks, ownerId);
+			return ResponseEntity
+					.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tareas actualizadas", updated));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		} catch (TaskNotFoundException e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
+		}
+	}
+
+	@Operation(summary = "Eliminar varias tareas por ID en una sola solicitud", responses = {
+			@ApiResponse(responseCode = "200", description = "Tareas eliminadas, devuelve cuántas se eliminaron", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Lista vacía o demasiado grande", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado para alguna de las tareas", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@DeleteMapping("/bulk")
+	public ResponseEntity<ApiResponseDTO<Integer>> deleteTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestBody List<Long> ids) {
+		if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_SIZE || ids.contains(null)) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_BULK_SIZE, null));
+		}
+
+		String unauthorizedMessage = "No autorizado para borrar estas tareas";
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
+		}
+
+		// Un DELETE por bloque con el dueño en el WHERE, en una sola transacción
+		try {
+			int deleted = taskService.deleteTasks(ids, ownerId);
+			return ResponseEntity
+					.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tareas eliminadas", deleted));
+		} catch (TaskNotFoundException e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
 		}
 	}
 
 	@Operation(summary = "Obtener todas las tareas, solo usuarios con rol de administrador pueden usarla", responses = {
 			@ApiResponse(responseCode = "200", description = "Lista de tareas obtenida exitosamente", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Orden inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
 			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
 			@ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
 	})
 	@SecurityRequirement(name = "Authorization")
 	@GetMapping("/admin/getAll")
-	public ResponseEntity<ApiResponseDTO<Page<Task>>> getAllTasksForAdmin(
+	public ResponseEntity<ApiResponseDTO<PageResponse<TaskSummary>>> getAllTasksForAdmin(
 			@RequestHeader("Authorization") String authHeader,
 			@RequestParam(defaultValue = "0") int page,
-			@RequestParam(defaultValue = "10") int size) {
+			@RequestParam(defaultValue = "10") int size,
+			@Parameter(description = INCLUDE_TOTAL_DESCRIPTION) @RequestParam(defaultValue = "true") boolean includeTotal,
+			@Parameter(description = TaskSort.DESCRIPTION) @RequestParam(required = false) String sort) {
 		// Verificar si el usuario tiene el rol "admin" usando AuthUtils
 		if (!authUtils.isAdminUser(authHeader)) {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -141,24 +316,38 @@ public class TaskController {
 							"No tienes permiso para acceder a esta acción", null));
 		}
 
+		Sort taskSort;
+		try {
+			taskSort = TaskSort.parse(sort);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+
 		// Si es admin, obtener todas las tareas con paginación
-		PageRequest pageRequest = PageRequest.of(page, size);
-		Page<Task> tasks = taskService.getAllTasks(pageRequest);
+		PageRequest pageRequest = PageRequest.of(page, size, taskSort);
+		Slice<TaskSummary> tasks = includeTotal
+				? taskService.getAllTasks(pageRequest)
+				: taskService.getAllTasksSlice(pageRequest);
 
-		return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas", tasks));
+		return ResponseEntity.ok(
+				new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas", PageResponse.of(tasks)));
 	}
 
 	@Operation(summary = "Obtener todas las tareas del usuario", responses = {
 			@ApiResponse(responseCode = "200", description = "Lista de tareas obtenida exitosamente", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Orden inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
 			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
 			@ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
 	})
 	@SecurityRequirement(name = "Authorization")
 	@GetMapping("/getAll")
-	public ResponseEntity<ApiResponseDTO<Page<Task>>> getAllTasksForUser(
+	public ResponseEntity<ApiResponseDTO<PageResponse<TaskSummary>>> getAllTasksForUser(
 			@RequestHeader("Authorization") String authHeader,
 			@RequestParam(defaultValue = "0") int page,
-			@RequestParam(defaultValue = "10") int size) {
+			@RequestParam(defaultValue = "10") int size,
+			@Parameter(description = INCLUDE_TOTAL_DESCRIPTION) @RequestParam(defaultValue = "true") boolean includeTotal,
+			@Parameter(description = TaskSort.DESCRIPTION) @RequestParam(required = false) String sort) {
 
 		// Extraer el token del encabezado Authorization
 		ResponseEntity<String> tokenResponse = authUtils.getTokenFromAuthHeader(authHeader);
@@ -169,21 +358,31 @@ public class TaskController {
 					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, tokenResponse.getBody(), null));
 		}
 
-		String token = tokenResponse.getBody();
+		JwtPrincipal principal = authUtils.getPrincipal(authHeader);
 
-		// Verificar si el usuario tiene el rol "user" usando AuthUtils
-		if (!authUtils.hasRole(token, "user")) {
+		// Verificar si el usuario tiene el rol "user"
+		if (!principal.hasRole("user")) {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN)
 					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR,
 							"No tienes permiso para acceder a esta acción", null));
 		}
 
+		Sort taskSort;
+		try {
+			taskSort = TaskSort.parse(sort);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+
 		// Obtener las tareas del usuario con paginación
-		String username = jwtUtil.getUsernameFromToken(token);
-		PageRequest pageRequest = PageRequest.of(page, size);
-		Page<Task> tasks = taskService.getTasksByUser(username, pageRequest);
+		PageRequest pageRequest = PageRequest.of(page, size, taskSort);
+		Slice<TaskSummary> tasks = includeTotal
+				? taskService.getTasksByUser(principal.username(), pageRequest)
+				: taskService.getTasksSliceByUser(principal.username(), pageRequest);
 
-		return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, ApiResponseDTO.OK, tasks));
+		return ResponseEntity
+				.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, ApiResponseDTO.OK, PageResponse.of(tasks)));
 	}
 
 	@Operation(summary = "Obtener una tarea por ID", responses = {
@@ -196,65 +395,293 @@ public class TaskController {
 	@GetMapping("/{id}")
 	public ResponseEntity<ApiResponseDTO<Task>> getTaskById(
 			@RequestHeader("Authorization") String authHeader, @PathVariable Long id) {
-		// Verificar que la tarea pertenece al usuario autenticado
-		if (!authUtils.isTaskOwnedByUser(authHeader, id, taskService, true)) {
-			// Si el usuario no es el propietario de la tarea
+		String unauthorizedMessage = "No autorizado para ver esta tarea";
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "No autorizado para ver esta tarea", null));
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
 		}
 
-		Task task = taskService.getTaskById(id);
-		return task != null
-				? ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea encontrada", task))
-				: ResponseEntity.status(HttpStatus.NOT_FOUND)
-						.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_TASK_NOT_FOUND, null));
+		return taskService.findTask(id, ownerId)
+				.map(task -> ResponseEntity
+						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tarea encontrada", task)))
+				.orElseGet(() -> taskNotFoundOrUnauthorized(id, unauthorizedMessage));
+	}
+
+	@Operation(summary = "Obtener varias tareas por ID en una sola solicitud", description = "Devuelve las tareas encontradas en el orden recibido y reporta por separado los ids inexistentes (notFound) y los de otro usuario (forbidden).", responses = {
+			@ApiResponse(responseCode = "200", description = "Tareas encontradas e ids no disponibles", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Lista vacía, demasiado grande o con ids nulos", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@PostMapping("/batchGet")
+	public ResponseEntity<ApiResponseDTO<TaskBatchGetResponse>> getTasksByIds(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestBody List<Long> ids) {
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "Token no autorizado.", null));
+		}
+
+		if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_GET_SIZE || ids.contains(null)) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_BATCH_GET_SIZE, null));
+		}
+
+		// Una consulta IN con el dueño en el WHERE en lugar de un GET /{id} por tarea
+		TaskBatchGetResponse result = taskService.findTasks(ids, ownerId);
+		return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tareas encontradas", result));
 	}
 
 	@Operation(summary = "Filtrar tareas por estado, prioridad y título", responses = {
 			@ApiResponse(responseCode = "200", description = "Lista de tareas filtradas obtenida exitosamente", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Orden inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
 			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
 			@ApiResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
 	})
 	@SecurityRequirement(name = "Authorization")
 	@GetMapping("/filter")
-	public ResponseEntity<ApiResponseDTO<Page<Task>>> getTasksFiltered(
+	public ResponseEntity<ApiResponseDTO<PageResponse<TaskSummary>>> getTasksFiltered(
 			@RequestHeader("Authorization") String authHeader,
 			@RequestParam(required = false) String status,
 			@RequestParam(required = false) String priority,
 			@RequestParam(required = false) String title,
 			@RequestParam(defaultValue = "0") int page,
-			@RequestParam(defaultValue = "10") int size) {
+			@RequestParam(defaultValue = "10") int size,
+			@Parameter(description = INCLUDE_TOTAL_DESCRIPTION) @RequestParam(defaultValue = "true") boolean includeTotal,
+			@Parameter(description = TaskSort.DESCRIPTION) @RequestParam(required = false) String sort) {
+		Sort taskSort;
+		try {
+			taskSort = TaskSort.parse(sort);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+
 		try {
-			if (authUtils.isAdminUser(authHeader)) {
+			JwtPrincipal principal = authUtils.getPrincipal(authHeader);
+			if (principal == null) {
+				throw new TokenException("Token no autorizado.");
+			}
+
+			if (authUtils.isAdminUser(principal)) {
 				// Crear un objeto PageRequest con los parámetros de paginación
-				PageRequest pageRequest = PageRequest.of(page, size);
+				PageRequest pageRequest = PageRequest.of(page, size, taskSort);
 
 				// Obtener las tareas filtradas con paginación al ser null el usuario no
 				// filtrara por el y traera todas las tareas
-				Page<Task> tasks = taskService.getTasksByFilters(null, title, status, priority, pageRequest);
+				Slice<TaskSummary> tasks = includeTotal
+						? taskService.getTasksByFilters(null, title, status, priority, pageRequest)
+						: taskService.getTasksSliceByFilters(null, title, status, priority, pageRequest);
 
 				// Retornar las tareas filtradas con paginación
 				return ResponseEntity
-						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas filtradas", tasks));
+						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas filtradas",
+								PageResponse.of(tasks)));
 			} else {
-				// Obtener el token y el ID del usuario
-				String token = authHeader.replace(BEARER_PREFIX, "");
-				Long userId = jwtUtil.getUserIdFromToken(token);
+				// Obtener el ID del usuario desde el token ya decodificado
+				Long userId = principal.userId();
 
 				// Crear un objeto PageRequest con los parámetros de paginación
-				PageRequest pageRequest = PageRequest.of(page, size);
+				PageRequest pageRequest = PageRequest.of(page, size, taskSort);
 
 				// Obtener las tareas filtradas con paginación
-				Page<Task> tasks = taskService.getTasksByFilters(userId, title, status, priority, pageRequest);
+				Slice<TaskSummary> tasks = includeTotal
+						? taskService.getTasksByFilters(userId, title, status, priority, pageRequest)
+						: taskService.getTasksSliceByFilters(userId, title, status, priority, pageRequest);
 
 				// Retornar las tareas filtradas con paginación
 				return ResponseEntity
-						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas filtradas", tasks));
+						.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas filtradas",
+								PageResponse.of(tasks)));
 			}
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
 					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
 		}
+	}
+
+	@Operation(summary = "Listar tareas por cursor (keyset), con filtros opcionales y sin total de elementos", responses = {
+			@ApiResponse(responseCode = "200", description = "Página de tareas obtenida exitosamente", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Cursor, filtro o tamaño inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@GetMapping("/scroll")
+	public ResponseEntity<ApiResponseDTO<CursorPage<TaskSummary>>> scrollTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestParam(required = false) String status,
+			@RequestParam(required = false) String priority,
+			@RequestParam(required = false) String title,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "10") int size) {
+		JwtPrincipal principal = authUtils.getPrincipal(authHeader);
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "Token no autorizado.", null));
+		}
+
+		if (size < 1 || size > MAX_SCROLL_SIZE) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR,
+							"El tamaño de página debe estar entre 1 y " + MAX_SCROLL_SIZE, null));
+		}
+
+		try {
+			// El admin recorre todas las tareas, el usuario solo las propias
+			Long userId = authUtils.isAdminUser(principal) ? null : principal.userId();
+			CursorPage<TaskSummary> tasks = taskService.scrollTasksByFilters(userId, title, status, priority, cursor, size);
+
+			return ResponseEntity
+					.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Lista de tareas filtradas", tasks));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+	}
+
+	@Operation(summary = "Contar tareas por estado, prioridad y título", responses = {
+			@ApiResponse(responseCode = "200", description = "Total de tareas, cacheable por el cliente durante 30 segundos", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Filtro inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@GetMapping("/count")
+	public ResponseEntity<ApiResponseDTO<Long>> countTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestParam(required = false) String status,
+			@RequestParam(required = false) String priority,
+			@RequestParam(required = false) String title) {
+		JwtPrincipal principal = authUtils.getPrincipal(authHeader);
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "Token no autorizado.", null));
+		}
+
+		try {
+			Long userId = authUtils.isAdminUser(principal) ? null : principal.userId();
+			long total = taskService.countTasksByFilters(userId, title, status, priority);
+
+			// El total varía por usuario, solo lo puede cachear el cliente
+			return ResponseEntity.ok()
+					.cacheControl(CacheControl.maxAge(COUNT_MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePrivate())
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, ApiResponseDTO.OK, total));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+	}
+
+	@Operation(summary = "Exportar las tareas filtradas como NDJSON o CSV, escritas a medida que se leen", responses = {
+			@ApiResponse(responseCode = "200", description = "Tareas en el formato pedido (application/x-ndjson o text/csv)"),
+			@ApiResponse(responseCode = "400", description = "Formato o filtro inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@GetMapping("/export")
+	public void exportTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@Parameter(description = "ndjson o csv") @RequestParam(defaultValue = "ndjson") String format,
+			@RequestParam(required = false) String status,
+			@RequestParam(required = false) String priority,
+			@RequestParam(required = false) String title,
+			HttpServletResponse response) throws IOException {
+		Long ownerId;
+		try {
+			ownerId = authUtils.getTaskOwnerFilter(authUtils.getPrincipal(authHeader));
+		} catch (TokenException e) {
+			writeError(response, HttpStatus.UNAUTHORIZED, e.getMessage());
+			return;
+		}
+
+		// Los parámetros se validan antes de escribir, después ya no se puede
+		// cambiar el código de respuesta
+		TaskExportWriter.Format exportFormat;
+		try {
+			exportFormat = TaskExportWriter.Format.from(format);
+			taskService.validateFilters(status, priority);
+		} catch (IllegalArgumentException e) {
+			writeError(response, HttpStatus.BAD_REQUEST, e.getMessage());
+			return;
+		}
+
+		// La respuesta se escribe directamente en el flujo de salida
+		response.setContentType(exportFormat.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("tasks." + exportFormat.getExtension()).build().toString());
+		taskService.exportTasks(ownerId, title, status, priority, exportFormat, response.getOutputStream());
+	}
+
+	@Operation(summary = "Buscar tareas por palabras del título o la descripción, ordenadas por relevancia", responses = {
+			@ApiResponse(responseCode = "200", description = "Tareas encontradas", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "400", description = "Búsqueda o filtro inválido", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class))),
+			@ApiResponse(responseCode = "401", description = "No autorizado", content = @Content(schema = @Schema(implementation = ApiResponseDTO.class)))
+	})
+	@SecurityRequirement(name = "Authorization")
+	@GetMapping("/search")
+	public ResponseEntity<ApiResponseDTO<PageResponse<TaskSummary>>> searchTasks(
+			@RequestHeader("Authorization") String authHeader,
+			@RequestParam("q") String query,
+			@RequestParam(required = false) String status,
+			@RequestParam(required = false) String priority,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "10") int size) {
+		JwtPrincipal principal = authUtils.getPrincipal(authHeader);
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, "Token no autorizado.", null));
+		}
+
+		if (size < 1 || size > MAX_SEARCH_SIZE) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR,
+							"El tamaño de página debe estar entre 1 y " + MAX_SEARCH_SIZE, null));
+		}
+
+		try {
+			Long userId = authUtils.isAdminUser(principal) ? null : principal.userId();
+			Slice<TaskSummary> tasks = taskService.searchTasks(userId, query, status, priority,
+					PageRequest.of(page, size));
+
+			return ResponseEntity.ok(new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, "Tareas encontradas",
+					PageResponse.of(tasks)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, e.getMessage(), null));
+		}
+	}
+
+	/**
+	 * Error de la exportación con el mismo formato ApiResponseDTO del resto de
+	 * endpoints. La exportación no devuelve ResponseEntity porque escribe la
+	 * respuesta directamente.
+	 */
+	private static void writeError(HttpServletResponse response, HttpStatus status, String message)
+			throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		ERROR_WRITER.writeValue(response.getOutputStream(),
+				new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, message, null));
+	}
 
+	/**
+	 * Respuesta cuando una operación con filtro de dueño no encontró la tarea. Solo
+	 * en este caso se consulta si la tarea existe, para responder 404 si no existe
+	 * o 401 si es de otro usuario.
+	 */
+	private <T> ResponseEntity<ApiResponseDTO<T>> taskNotFoundOrUnauthorized(Long id, String unauthorizedMessage) {
+		if (taskService.existsTask(id)) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+					.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, unauthorizedMessage, null));
+		}
+		return ResponseEntity.status(HttpStatus.NOT_FOUND)
+				.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR, MSG_TASK_NOT_FOUND, null));
 	}
 }
\ No newline at end of file
@@ -2,8 +2,9 @@ package com.prtec.tasks.adapter.in.controller;
 
 import com.prtec.tasks.application.service.UserDetailsService;
 import com.prtec.tasks.application.utils.AuthUtils;
-import com.prtec.tasks.application.utils.JwtUtil;
+import com.prtec.tasks.application.exceptions.TokenException;
 import com.prtec.tasks.domain.model.dto.ApiResponseDTO;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
 import com.prtec.tasks.domain.model.dto.UserDetailsRequestDTO;
 import com.prtec.tasks.domain.model.dto.UserDetailsResponseDTO;
 import com.prtec.tasks.domain.model.entity.UserDetails;
@@ -21,12 +22,10 @@ import org.springframework.web.bind.annotation.*;
 public class UserDetailsController {
 
 	private final AuthUtils authUtils;
-	private final JwtUtil jwtUtil;
 	private final UserDetailsService userDetailsService;
 
-	public UserDetailsController(AuthUtils authUtils, JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+	public UserDetailsController(AuthUtils authUtils, UserDetailsService userDetailsService) {
 		this.authUtils = authUtils;
-		this.jwtUtil = jwtUtil;
 		this.userDetailsService = userDetailsService;
 	}
 
@@ -74,10 +73,13 @@ public class UserDetailsController {
 
 			// Si no es admin, verificar que el username del token coincida con el username
 			// consultado
-			if (!authUtils.isAdminUser(authHeader)) {
-				String usernameFromToken = jwtUtil
-						.getUsernameFromToken(authUtils.getTokenFromAuthHeader(authHeader).getBody());
-				if (!user.getUsername().equals(usernameFromToken)) {
+			JwtPrincipal principal = authUtils.getPrincipal(authHeader);
+			if (principal == null) {
+				throw new TokenException("Token no autorizado.");
+			}
+
+			if (!authUtils.isAdminUser(principal)) {
+				if (!user.getUsername().equals(principal.username())) {
 					return ResponseEntity.status(HttpStatus.FORBIDDEN)
 							.body(new ApiResponseDTO<>(ApiResponseDTO.Status.ERROR,
 									"No tienes permiso para acceder a esta acción", null));
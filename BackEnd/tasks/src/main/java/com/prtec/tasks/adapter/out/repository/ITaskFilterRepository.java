@@ -0,0 +1,38 @@
+package com.prtec.tasks.adapter.out.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+
+/**
+ * Consultas de listados con filtros dinámicos ({@link TaskSpecifications}),
+ * devueltas como la proyección {@link TaskSummary}.
+ */
+public interface ITaskFilterRepository {
+
+	Page<TaskSummary> findSummaries(Specification<Task> spec, Pageable pageable);
+
+	// Sin COUNT: solo indica si hay página siguiente
+	Slice<TaskSummary> findSummarySlice(Specification<Task> spec, Pageable pageable);
+
+	// Keyset: las primeras filas en el orden dado, sin OFFSET
+	List<TaskSummary> findSummaries(Specification<Task> spec, Sort sort, int limit);
+
+	// Exportación: cursor de solo avance, se consume dentro de una transacción
+	Stream<TaskSummary> streamSummaries(Specification<Task> spec, Sort sort);
+
+	long countMatching(Specification<Task> spec);
+
+	// Búsqueda FULLTEXT (ft_tasks_title_description): ids ordenados por relevancia,
+	// con solo los filtros recibidos (userId null: todas las tareas)
+	Slice<Long> searchIds(String query, Long userId, Task.TaskStatus status, Task.TaskPriority priority,
+			Pageable pageable);
+}
@@ -0,0 +1,153 @@
+package com.prtec.tasks.adapter.out.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementación con Criteria API de {@link ITaskFilterRepository}. Spring
+ * Data la asocia a {@link ITaskRepository} por el sufijo Impl.
+ */
+public class ITaskFilterRepositoryImpl implements ITaskFilterRepository {
+	// Filas por viaje al servidor en la exportación (cursor del lado de MySQL)
+	private static final int EXPORT_FETCH_SIZE = 1000;
+	private static final String MATCH = "MATCH(t.title, t.description) AGAINST(:query IN BOOLEAN MODE)";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Page<TaskSummary> findSummaries(Specification<Task> spec, Pageable pageable) {
+		List<TaskSummary> content = paged(summaryQuery(spec, pageable.getSort()), pageable, 0).getResultList();
+		// Omite el COUNT cuando la primera página no viene llena
+		return PageableExecutionUtils.getPage(content, pageable, () -> countMatching(spec));
+	}
+
+	@Override
+	public Slice<TaskSummary> findSummarySlice(Specification<Task> spec, Pageable pageable) {
+		// Se pide un elemento extra para saber si existe una página siguiente
+		return toSlice(paged(summaryQuery(spec, pageable.getSort()), pageable, 1).getResultList(), pageable);
+	}
+
+	@Override
+	public List<TaskSummary> findSummaries(Specification<Task> spec, Sort sort, int limit) {
+		return summaryQuery(spec, sort).setMaxResults(limit).getResultList();
+	}
+
+	@Override
+	public Stream<TaskSummary> streamSummaries(Specification<Task> spec, Sort sort) {
+		return summaryQuery(spec, sort)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+				.getResultStream();
+	}
+
+	@Override
+	public long countMatching(Specification<Task> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Task> root = query.from(Task.class);
+		query.select(cb.count(root));
+		applySpec(spec, root, query, cb);
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	@Override
+	public Slice<Long> searchIds(String query, Long userId, Task.TaskStatus status, Task.TaskPriority priority,
+			Pageable pageable) {
+		// SQL nativo (MATCH ... AGAINST) armado con solo los predicados recibidos,
+		// como TaskSpecifications; status y priority se comparan por su código
+		StringBuilder sql = new StringBuilder("SELECT t.id FROM tasks t WHERE ").append(MATCH);
+		if (userId != null) {
+			sql.append(" AND t.user_id = :userId");
+		}
+		if (status != null) {
+			sql.append(" AND t.status = :status");
+		}
+		if (priority != null) {
+			sql.append(" AND t.priority = :priority");
+		}
+		sql.append(" ORDER BY ").append(MATCH).append(" DESC, t.id");
+
+		Query search = entityManager.createNativeQuery(sql.toString(), Long.class)
+				.setParameter("query", query);
+		if (userId != null) {
+			search.setParameter("userId", userId);
+		}
+		if (status != null) {
+			search.setParameter("status", status.getCode());
+		}
+		if (priority != null) {
+			search.setParameter("priority", priority.getCode());
+		}
+		if (pageable.isPaged()) {
+			search.setFirstResult((int) pageable.getOffset());
+			search.setMaxResults(pageable.getPageSize() + 1);
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Long> ids = search.getResultList();
+		return toSlice(ids, pageable);
+	}
+
+	// Misma proyección que ITaskRepository.SUMMARY_QUERY
+	private TypedQuery<TaskSummary> summaryQuery(Specification<Task> spec, Sort sort) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+		Root<Task> root = query.from(Task.class);
+		Join<Task, UserDetails> user = root.join("userDetails");
+		query.select(cb.construct(TaskSummary.class,
+				root.get("id"), root.get("title"), root.get("description"), root.get("status"),
+				root.get("priority"), root.get("dueDate"),
+				user.get("username"), user.get("firstName"), user.get("lastName")));
+		applySpec(spec, root, query, cb);
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		}
+		return entityManager.createQuery(query);
+	}
+
+	private static void applySpec(Specification<Task> spec, Root<Task> root, CriteriaQuery<?> query,
+			CriteriaBuilder cb) {
+		Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+	}
+
+	// Resultado pedido con un elemento extra para saber si existe una página siguiente
+	private static <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+		boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	private static <T> TypedQuery<T> paged(TypedQuery<T> query, Pageable pageable, int extra) {
+		if (pageable.isPaged()) {
+			query.setFirstResult((int) pageable.getOffset());
+			query.setMaxResults(pageable.getPageSize() + extra);
+		}
+		return query;
+	}
+}
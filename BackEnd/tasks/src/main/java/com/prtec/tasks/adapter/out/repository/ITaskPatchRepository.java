@@ -0,0 +1,13 @@
+package com.prtec.tasks.adapter.out.repository;
+
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+
+/**
+ * Actualización parcial de una tarea con un solo UPDATE, sin cargar la
+ * entidad.
+ */
+public interface ITaskPatchRepository {
+
+	// UPDATE tasks SET <campos presentes> WHERE id = ? [AND user_id = ?]
+	int patchByIdAndOwner(Long id, Long userId, TaskPatchDTO patch);
+}
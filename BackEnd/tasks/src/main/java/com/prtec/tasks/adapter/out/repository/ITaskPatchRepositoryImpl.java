@@ -0,0 +1,53 @@
+package com.prtec.tasks.adapter.out.repository;
+
+import java.time.LocalDateTime;
+
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+import com.prtec.tasks.domain.model.entity.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementación con Criteria API de {@link ITaskPatchRepository}. Spring Data
+ * la asocia a {@link ITaskRepository} por el sufijo Impl.
+ */
+public class ITaskPatchRepositoryImpl implements ITaskPatchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public int patchByIdAndOwner(Long id, Long userId, TaskPatchDTO patch) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+		Root<Task> root = update.from(Task.class);
+
+		if (patch.title() != null) {
+			update.set(root.<String>get("title"), patch.title());
+		}
+		if (patch.description() != null) {
+			update.set(root.<String>get("description"), patch.description().orElse(null));
+		}
+		if (patch.status() != null) {
+			update.set(root.<Task.TaskStatus>get("status"), patch.status());
+		}
+		if (patch.priority() != null) {
+			update.set(root.<Task.TaskPriority>get("priority"), patch.priority());
+		}
+		if (patch.dueDate() != null) {
+			update.set(root.get("dueDate"), patch.dueDate().orElse(null));
+		}
+		// @UpdateTimestamp no se aplica a los UPDATE de Criteria/JPQL
+		update.set(root.get("updatedAt"), LocalDateTime.now());
+
+		// user_id es la llave foránea: se compara sin JOIN a user_details
+		Predicate byId = cb.equal(root.get("id"), id);
+		update.where(userId == null ? byId : cb.and(byId, cb.equal(root.get("userDetails").get("id"), userId)));
+		return entityManager.createQuery(update).executeUpdate();
+	}
+}
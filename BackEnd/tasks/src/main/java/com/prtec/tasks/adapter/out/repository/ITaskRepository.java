@@ -1,43 +1,96 @@
 package com.prtec.tasks.adapter.out.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.prtec.tasks.domain.model.dto.TaskSummary;
 import com.prtec.tasks.domain.model.entity.Task;
 
 @Repository
-public interface ITaskRepository extends JpaRepository<Task, Long> {
-
-	// Query para usuarios (solo pueden ver sus propias tareas)
-	@Query("SELECT t FROM Task t WHERE " +
-			"(t.userDetails.id = :userId) AND " +
-			"(:status IS NULL OR t.status = :status) AND " +
-			"(:priority IS NULL OR t.priority = :priority) AND " +
-			"(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))")
-	Page<Task> findByUserAndFilters(
-			@Param("userId") Long userId,
-			@Param("title") String title,
-			@Param("status") Task.TaskStatus status,
-			@Param("priority") Task.TaskPriority priority,
-			Pageable pageable);
+public interface ITaskRepository extends JpaRepository<Task, Long>, ITaskFilterRepository, ITaskPatchRepository {
 
-	// Query para el admin que puede ver todas las tareas
-	@Query("SELECT t FROM Task t WHERE " +
-			"(:status IS NULL OR t.status = :status) AND " +
-			"(:priority IS NULL OR t.priority = :priority) AND " +
-			"(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')))")
-	Page<Task> findByFilters(
-			@Param("title") String title,
-			@Param("status") Task.TaskStatus status,
-			@Param("priority") Task.TaskPriority priority,
+	// Proyección de los listados: solo las columnas que muestra la tabla de tareas
+	String SUMMARY_QUERY = "SELECT new com.prtec.tasks.domain.model.dto.TaskSummary(" +
+			"t.id, t.title, t.description, t.status, t.priority, t.dueDate, " +
+			"u.username, u.firstName, u.lastName) " +
+			"FROM Task t JOIN t.userDetails u ";
+
+	@Query(SUMMARY_QUERY + "WHERE u.username = :username")
+	Slice<TaskSummary> findSliceByUsername(
+			@Param("username") String username,
 			Pageable pageable);
 
-	@Query("SELECT t FROM Task t WHERE t.userDetails.username = :username")
-	Page<Task> findByUsername(
+	// Todas las tareas (admin)
+	@Query(SUMMARY_QUERY)
+	Page<TaskSummary> findAllSummaries(Pageable pageable);
+
+	@Query(SUMMARY_QUERY)
+	Slice<TaskSummary> findSliceOfSummaries(Pageable pageable);
+
+	@Override
+	@EntityGraph(attributePaths = "userDetails")
+	Optional<Task> findById(Long id);
+
+	// Operaciones sobre una tarea con el dueño en la misma sentencia (el admin usa
+	// findById y deleteByIdIn)
+	@EntityGraph(attributePaths = "userDetails")
+	Optional<Task> findByIdAndUserDetailsId(Long id, Long userId);
+
+	@Modifying
+	@Query("DELETE FROM Task t WHERE t.id = :id AND t.userDetails.id = :userId")
+	int deleteByIdAndUser(
+			@Param("id") Long id,
+			@Param("userId") Long userId);
+
+	// Varias tareas del usuario por id, con el dueño en la misma sentencia y el
+	// usuario cargado
+	@Query("SELECT t FROM Task t WHERE t.id IN :ids AND t.userDetails.id = :userId")
+	@EntityGraph(attributePaths = "userDetails")
+	List<Task> findAllByIdInAndUser(
+			@Param("ids") Collection<Long> ids,
+			@Param("userId") Long userId);
+
+	// Varias tareas por id (admin), con el usuario cargado
+	@Query("SELECT t FROM Task t WHERE t.id IN :ids")
+	@EntityGraph(attributePaths = "userDetails")
+	List<Task> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+	// Cuáles de los ids existen, para separar inexistentes de ajenos
+	@Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	// Carga una página de ids (búsqueda) en una sola consulta
+	@Query(SUMMARY_QUERY + "WHERE t.id IN :ids")
+	List<TaskSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	// Operaciones en lote: carga solo las tareas del usuario (id IN ... AND user_id = ?)
+	List<Task> findAllByIdInAndUserDetailsId(Collection<Long> ids, Long userId);
+
+	// Borra un lote de tareas con un solo DELETE, sin cargarlas (admin)
+	@Modifying
+	@Query("DELETE FROM Task t WHERE t.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+	// Borra un lote de tareas del usuario con un solo DELETE
+	@Modifying
+	@Query("DELETE FROM Task t WHERE t.id IN :ids AND t.userDetails.id = :userId")
+	int deleteByIdInAndUser(
+			@Param("ids") Collection<Long> ids,
+			@Param("userId") Long userId);
+
+	@Query(SUMMARY_QUERY + "WHERE u.username = :username")
+	Page<TaskSummary> findByUsername(
 			@Param("username") String username,
 			Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.prtec.tasks.adapter.out.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.prtec.tasks.domain.model.entity.Task;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Filtros de tareas como {@link Specification}.
+ *
+ * <p>
+ * Solo se agregan los predicados de los filtros recibidos: cada combinación
+ * (usuario, usuario y estado, usuario, estado y prioridad, título...) genera su
+ * propia sentencia, sin condiciones {@code ? IS NULL OR ...} que impidan a
+ * MySQL elegir el índice adecuado.
+ * </p>
+ */
+public final class TaskSpecifications {
+
+	private TaskSpecifications() {
+	}
+
+	/**
+	 * Metodo para construir el filtro de los listados
+	 *
+	 * @param userId   Id del dueño (user_details), null para todas las tareas
+	 * @param title    Texto contenido en el título (opcional)
+	 * @param status   Estado (opcional)
+	 * @param priority Prioridad (opcional)
+	 * @return Specification con solo los predicados recibidos
+	 */
+	public static Specification<Task> filter(Long userId, String title, Task.TaskStatus status,
+			Task.TaskPriority priority) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>(4);
+			// En el mismo orden que idx_tasks_user_status_priority
+			if (userId != null) {
+				predicates.add(cb.equal(root.get("userDetails").get("id"), userId));
+			}
+			if (status != null) {
+				predicates.add(cb.equal(root.get("status"), status));
+			}
+			if (priority != null) {
+				predicates.add(cb.equal(root.get("priority"), priority));
+			}
+			if (title != null) {
+				predicates.add(cb.like(cb.lower(root.get("title")), "%" + title.toLowerCase(Locale.ROOT) + "%"));
+			}
+			return predicates.isEmpty() ? null : cb.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	/**
+	 * Metodo para continuar un recorrido por keyset
+	 *
+	 * @param afterId Id de la última tarea entregada
+	 * @return Specification sobre id
+	 */
+	public static Specification<Task> idGreaterThan(long afterId) {
+		return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+	}
+}
@@ -0,0 +1,163 @@
+package com.prtec.tasks.application.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import com.prtec.tasks.application.config.AuthClientProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Agrupa las verificaciones remotas concurrentes de un mismo token.
+ *
+ * <p>
+ * La primera solicitud hace la llamada al servicio auth y las que llegan
+ * mientras esa llamada está en curso esperan y reciben el mismo resultado. Las
+ * entradas solo viven mientras la llamada está en curso, no es un cache.
+ * </p>
+ *
+ * <p>
+ * Las solicitudes que esperan lo hacen como máximo totalTimeout del cliente,
+ * el tiempo tras el cual se cancela el intercambio con el servicio auth; si se
+ * cumple ese tiempo usan su propio resultado alternativo en lugar de quedar
+ * bloqueadas.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code jwt.verify.remote.calls} (llamadas realizadas),
+ * {@code jwt.verify.remote.coalesced} (solicitudes que reutilizaron una llamada
+ * en curso) y {@code jwt.verify.remote.in-flight}.
+ * </p>
+ */
+@Component
+public class TokenVerificationCoalescer implements MeterBinder {
+
+	private final ConcurrentMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder remoteCalls = new LongAdder();
+	private final LongAdder coalescedCalls = new LongAdder();
+	private final long waitTimeoutNanos;
+
+	/**
+	 * Constructor con los timeouts por defecto del cliente HTTP.
+	 */
+	public TokenVerificationCoalescer() {
+		this(new AuthClientProperties());
+	}
+
+	/**
+	 * Constructor que limita la espera al totalTimeout del cliente hacia el
+	 * servicio auth.
+	 *
+	 * @param properties Propiedades del cliente HTTP del servicio auth.
+	 */
+	@Autowired
+	public TokenVerificationCoalescer(AuthClientProperties properties) {
+		this(properties.getTotalTimeout());
+	}
+
+	/**
+	 * @param waitTimeout Espera máxima de una solicitud por la llamada en curso.
+	 */
+	public TokenVerificationCoalescer(Duration waitTimeout) {
+		this.waitTimeoutNanos = waitTimeout.toNanos();
+	}
+
+	/**
+	 * Metodo para verificar un token compartiendo la llamada en curso, si existe
+	 *
+	 * @param token      Token a verificar
+	 * @param remoteCall Verificación remota; no debe lanzar excepciones por
+	 *                   errores de red o respuesta
+	 * @param onTimeout  Resultado para una solicitud que esperó la llamada en
+	 *                   curso más del tiempo máximo
+	 * @return resultado de la verificación
+	 */
+	public boolean verify(String token, BooleanSupplier remoteCall, BooleanSupplier onTimeout) {
+		CompletableFuture<Boolean> call = new CompletableFuture<>();
+		CompletableFuture<Boolean> existing = inFlight.putIfAbsent(token, call);
+
+		if (existing != null) {
+			coalescedCalls.increment();
+			return await(existing, onTimeout);
+		}
+
+		try {
+			remoteCalls.increment();
+			boolean result = remoteCall.getAsBoolean();
+			call.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(token, call);
+		}
+	}
+
+	/**
+	 * Metodo para esperar la llamada en curso. Los errores llegan con la misma
+	 * excepción que recibió la solicitud que hizo la llamada.
+	 *
+	 * @param call      Llamada en curso
+	 * @param onTimeout Resultado si la llamada no termina a tiempo
+	 * @return resultado de la verificación
+	 */
+	private boolean await(CompletableFuture<Boolean> call, BooleanSupplier onTimeout) {
+		try {
+			return call.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			return onTimeout.getAsBoolean();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return onTimeout.getAsBoolean();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * @return número de llamadas remotas realizadas
+	 */
+	public long getRemoteCalls() {
+		return remoteCalls.sum();
+	}
+
+	/**
+	 * @return número de verificaciones que reutilizaron una llamada en curso
+	 */
+	public long getCoalescedCalls() {
+		return coalescedCalls.sum();
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+		FunctionCounter.builder("jwt.verify.remote.calls", remoteCalls, LongAdder::sum)
+				.description("Llamadas a /api/verify del servicio auth")
+				.register(registry);
+		FunctionCounter.builder("jwt.verify.remote.coalesced", coalescedCalls, LongAdder::sum)
+				.description("Verificaciones que reutilizaron una llamada en curso al servicio auth")
+				.register(registry);
+		Gauge.builder("jwt.verify.remote.in-flight", inFlight, ConcurrentMap::size)
+				.register(registry);
+	}
+}
@@ -0,0 +1,97 @@
+package com.prtec.tasks.application.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache de los registros de user_details indexados por el id del usuario en el
+ * servicio auth.
+ *
+ * <p>
+ * Guarda una copia desacoplada del registro y entrega una copia nueva en cada
+ * lectura, de modo que la tarea creada se asocia al usuario sin consultarlo y
+ * la respuesta incluye sus datos sin inicializar un proxy. La carga de una
+ * llave se ejecuta una sola vez aunque lleguen varias solicitudes a la vez.
+ * </p>
+ *
+ * <p>
+ * Las entradas se invalidan al actualizar los datos del usuario y expiran a los
+ * {@value #TTL_MINUTES} minutos para acotar la diferencia entre instancias. Las
+ * métricas se publican con la etiqueta {@code cache=tasks.user-details}.
+ * </p>
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+	private static final String CACHE_NAME = "tasks.user-details";
+	private static final long MAX_SIZE = 10_000;
+	private static final long TTL_MINUTES = 10;
+
+	private final Cache<Long, UserDetails> cache = Caffeine.newBuilder()
+			.maximumSize(MAX_SIZE)
+			.expireAfterWrite(Duration.ofMinutes(TTL_MINUTES))
+			.recordStats()
+			.build();
+
+	/**
+	 * Metodo para obtener el usuario desde el cache o cargarlo si no está
+	 *
+	 * @param userId Id del usuario en el servicio auth
+	 * @param loader Función que busca o crea el registro cuando no está en cache
+	 * @return UserDetails desacoplado de la sesión
+	 */
+	public UserDetails get(Long userId, Function<Long, UserDetails> loader) {
+		UserDetails cached = cache.get(userId, id -> copyOf(loader.apply(id)));
+		return copyOf(cached);
+	}
+
+	/**
+	 * Metodo para descartar la entrada de un usuario
+	 *
+	 * @param userId Id del usuario en el servicio auth
+	 */
+	public void invalidate(Long userId) {
+		if (userId != null) {
+			cache.invalidate(userId);
+		}
+	}
+
+	/**
+	 * Metodo para consultar las estadísticas acumuladas del cache
+	 *
+	 * @return CacheStats
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+	}
+
+	private static UserDetails copyOf(UserDetails source) {
+		if (source == null) {
+			return null;
+		}
+		UserDetails copy = new UserDetails();
+		copy.setId(source.getId());
+		copy.setUserId(source.getUserId());
+		copy.setUsername(source.getUsername());
+		copy.setEmail(source.getEmail());
+		copy.setFirstName(source.getFirstName());
+		copy.setLastName(source.getLastName());
+		return copy;
+	}
+}
@@ -0,0 +1,143 @@
+package com.prtec.tasks.application.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.prtec.tasks.application.config.JwtProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache de tokens ya verificados por el servicio de autenticación.
+ *
+ * <p>
+ * Solo almacena resultados positivos, indexados por el hash SHA-256 del token
+ * (nunca el token en claro). Cada entrada expira en la fecha de expiración del
+ * propio token o al cumplirse el ttl configurado, lo que ocurra primero.
+ * </p>
+ *
+ * <p>
+ * Las métricas de aciertos, fallos y desalojos se publican como
+ * {@code cache.gets}, {@code cache.evictions} y {@code cache.size} con la
+ * etiqueta {@code cache=jwt.verified-tokens}.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+	private static final String CACHE_NAME = "jwt.verified-tokens";
+
+	private final Cache<String, Instant> cache;
+
+	public VerifiedTokenCache(JwtProperties jwtProperties) {
+		JwtProperties.Cache config = jwtProperties.getCache();
+		this.cache = config.isEnabled() ? buildCache(config) : null;
+	}
+
+	private static Cache<String, Instant> buildCache(JwtProperties.Cache config) {
+		long ttlNanos = config.getTtl().toNanos();
+
+		return Caffeine.newBuilder()
+				.maximumSize(config.getMaxSize())
+				.expireAfter(new Expiry<String, Instant>() {
+					@Override
+					public long expireAfterCreate(String key, Instant expiration, long currentTime) {
+						long untilExpiration = Duration.between(Instant.now(), expiration).toNanos();
+						return Math.max(0, Math.min(ttlNanos, untilExpiration));
+					}
+
+					@Override
+					public long expireAfterUpdate(String key, Instant expiration, long currentTime,
+							long currentDuration) {
+						return expireAfterCreate(key, expiration, currentTime);
+					}
+
+					@Override
+					public long expireAfterRead(String key, Instant expiration, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Metodo para saber si el token fue verificado previamente y sigue vigente
+	 *
+	 * @param token
+	 * @return boolean
+	 */
+	public boolean isVerified(String token) {
+		if (cache == null) {
+			return false;
+		}
+
+		Instant expiration = cache.getIfPresent(digest(token));
+		return expiration != null && expiration.isAfter(Instant.now());
+	}
+
+	/**
+	 * Metodo para registrar un token verificado con su fecha de expiración
+	 *
+	 * @param token
+	 * @param expiration
+	 */
+	public void markVerified(String token, Date expiration) {
+		if (cache == null || expiration == null || !expiration.toInstant().isAfter(Instant.now())) {
+			return;
+		}
+		cache.put(digest(token), expiration.toInstant());
+	}
+
+	/**
+	 * Metodo para consultar las estadísticas acumuladas del cache
+	 *
+	 * @return CacheStats
+	 */
+	public CacheStats stats() {
+		return cache == null ? CacheStats.empty() : cache.stats();
+	}
+
+	/**
+	 * Metodo para consultar el número aproximado de entradas vigentes
+	 *
+	 * @return long
+	 */
+	public long size() {
+		if (cache == null) {
+			return 0;
+		}
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+		if (cache != null) {
+			CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+		}
+	}
+
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 no disponible", e);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.prtec.tasks.application.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades del cliente HTTP hacia el servicio auth
+ * (custom.endpoints.auth-client)
+ *
+ * <ul>
+ * <li>maxConnections / maxConnectionsPerRoute: tamaño del pool de conexiones
+ * reutilizables (keep-alive).</li>
+ * <li>connectionRequestTimeout: espera máxima por una conexión libre del pool
+ * cuando está saturado.</li>
+ * <li>connectTimeout: espera máxima para establecer la conexión TCP.</li>
+ * <li>readTimeout: espera máxima por datos de la respuesta, en cada lectura
+ * del socket.</li>
+ * <li>totalTimeout: duración máxima de un intercambio completo (espera del
+ * pool, conexión, envío y lectura de la respuesta); al cumplirse la solicitud
+ * se cancela.</li>
+ * <li>idleTimeout / timeToLive: conexiones inactivas o muy antiguas que se
+ * cierran y se descartan del pool.</li>
+ * <li>circuitBreaker: se abre cuando el porcentaje de errores o de llamadas
+ * lentas supera el umbral en la ventana de las últimas llamadas; mientras está
+ * abierto no se consulta al servicio auth.</li>
+ * </ul>
+ *
+ * <p>
+ * Los demás timeouts se aplican a cada etapa por separado y readTimeout se
+ * reinicia con cada lectura, así que solo totalTimeout acota lo que una llamada
+ * bloquea un hilo.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "custom.endpoints.auth-client")
+public class AuthClientProperties {
+	private int maxConnections = 50;
+	private int maxConnectionsPerRoute = 20;
+	private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration readTimeout = Duration.ofSeconds(3);
+	private Duration totalTimeout = Duration.ofSeconds(5);
+	private Duration idleTimeout = Duration.ofSeconds(30);
+	private Duration timeToLive = Duration.ofMinutes(5);
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	@Getter
+	@Setter
+	public static class CircuitBreaker {
+		private int slidingWindowSize = 20;
+		private int minimumNumberOfCalls = 10;
+		private float failureRateThreshold = 50;
+		private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+		private float slowCallRateThreshold = 80;
+		private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+		private int permittedCallsInHalfOpenState = 3;
+	}
+}
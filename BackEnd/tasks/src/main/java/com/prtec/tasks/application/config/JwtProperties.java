@@ -0,0 +1,57 @@
+package com.prtec.tasks.application.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Propiedades para la validación de tokens JWT (custom.security.jwt)
+ *
+ * <ul>
+ * <li>secret: misma llave (Base64) con la que el servicio auth firma los
+ * tokens.</li>
+ * <li>verificationMode: LOCAL valida la firma HS256 en este servicio, REMOTE
+ * consulta siempre el endpoint /api/verify del servicio auth.</li>
+ * <li>remoteFallback: en modo LOCAL, si no hay llave configurada se consulta
+ * al servicio auth en lugar de rechazar el token.</li>
+ * <li>unavailableFallback: cómo se validan los tokens cuando el servicio auth
+ * no responde o su circuit breaker está abierto. LOCAL valida la firma con la
+ * llave si está configurada, CACHE solo acepta tokens verificados
+ * recientemente.</li>
+ * <li>cache: resultados positivos de la verificación remota, acotados por
+ * tamaño y por el menor valor entre la expiración del token y el ttl.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "custom.security.jwt")
+public class JwtProperties {
+	private String secret;
+	private VerificationMode verificationMode = VerificationMode.LOCAL;
+	private boolean remoteFallback = true;
+	private UnavailableFallback unavailableFallback = UnavailableFallback.LOCAL;
+	private Cache cache = new Cache();
+
+	public enum VerificationMode {
+		LOCAL,
+		REMOTE
+	}
+
+	public enum UnavailableFallback {
+		LOCAL,
+		CACHE
+	}
+
+	@Getter
+	@Setter
+	public static class Cache {
+		private boolean enabled = true;
+		private long maxSize = 10_000;
+		private Duration ttl = Duration.ofMinutes(5);
+	}
+}
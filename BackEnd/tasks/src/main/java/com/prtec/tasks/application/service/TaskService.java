@@ -1,22 +1,58 @@
 package com.prtec.tasks.application.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.prtec.tasks.adapter.out.repository.ITaskRepository;
+import com.prtec.tasks.adapter.out.repository.TaskSpecifications;
 import com.prtec.tasks.application.exceptions.TaskNotFoundException;
+import com.prtec.tasks.application.utils.TaskCursor;
+import com.prtec.tasks.application.utils.TaskExportWriter;
+import com.prtec.tasks.domain.model.dto.CursorPage;
+import com.prtec.tasks.domain.model.dto.TaskBatchGetResponse;
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
 import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+import jakarta.persistence.EntityManager;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
-	public static final String TASK_NOT_FOUND_MESSAGE = "No se encontró una tarea con id: ";
+	public static final String TASKS_NOT_OWNED_MESSAGE = "Alguna de las tareas no existe o no pertenece al usuario.";
+	// Filas por flush en las operaciones en lote (múltiplo de hibernate.jdbc.batch_size)
+	private static final int BULK_CHUNK_SIZE = 500;
+	private static final Sort BY_ID = Sort.by("id");
 	private final ITaskRepository taskRepository;
+	private final EntityManager entityManager;
 
 	/**
 	 * Crea una nueva tarea.
@@ -33,40 +69,192 @@ public class TaskService {
 	}
 
 	/**
-	 * Actualiza una tarea existente.
+	 * Actualiza una tarea verificando el dueño en la misma consulta con la que se
+	 * carga, sin una lectura previa para la autorización.
 	 * 
-	 * @param id   Identificador de la tarea.
-	 * @param task La información actualizada de la tarea.
-	 * @return La tarea actualizada.
+	 * @param id     Identificador de la tarea.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin).
+	 * @param task   La información actualizada de la tarea.
+	 * @return La tarea actualizada, vacío si no existe o no pertenece al usuario.
 	 */
 	@Transactional
-	public Task updateTask(Long id, Task task) {
-		Task existingTask = taskRepository.findById(id)
-				.orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE + id));
+	public Optional<Task> updateTask(Long id, Long userId, Task task) {
+		Optional<Task> existingTask = findTask(id, userId);
+		// El UPDATE lo ejecuta Hibernate al confirmar la transacción
+		existingTask.ifPresent(found -> copyEditableFields(task, found));
+		return existingTask;
+	}
 
-		existingTask.setTitle(task.getTitle());
-		existingTask.setDescription(task.getDescription());
-		existingTask.setStatus(task.getStatus());
-		existingTask.setDueDate(task.getDueDate());
-		existingTask.setPriority(task.getPriority());
+	/**
+	 * Actualiza solo los campos presentes de una tarea con un único UPDATE que
+	 * incluye el dueño, sin cargar la tarea.
+	 * 
+	 * @param id     Identificador de la tarea.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin).
+	 * @param patch  Campos a cambiar.
+	 * @return Filas actualizadas: 0 si no existe o no pertenece al usuario.
+	 */
+	@Transactional
+	public int patchTask(Long id, Long userId, TaskPatchDTO patch) {
+		if (patch == null || patch.isEmpty()) {
+			throw new IllegalArgumentException("Debe indicar al menos un campo a actualizar.");
+		}
+		if (patch.title() != null && patch.title().isBlank()) {
+			throw new IllegalArgumentException("El título no puede estar vacío.");
+		}
+		return taskRepository.patchByIdAndOwner(id, userId, patch);
+	}
 
-		return taskRepository.save(existingTask);
+	/**
+	 * Elimina una tarea con un solo DELETE que incluye el dueño.
+	 * 
+	 * @param id     Identificador de la tarea.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin).
+	 * @return true si se eliminó, false si no existe o no pertenece al usuario.
+	 */
+	@Transactional
+	public boolean deleteTask(Long id, Long userId) {
+		int deleted = userId == null
+				? taskRepository.deleteByIdIn(List.of(id))
+				: taskRepository.deleteByIdAndUser(id, userId);
+		return deleted > 0;
 	}
 
 	/**
-	 * Elimina una tarea por ID.
+	 * Crea varias tareas de un usuario en una sola transacción. Los INSERT se
+	 * envían en lotes y el contexto de persistencia se vacía cada
+	 * BULK_CHUNK_SIZE tareas para no retener todas en memoria.
 	 * 
-	 * @param id Identificador de la tarea.
-	 * @return boolean
+	 * @param tasks       Tareas a crear.
+	 * @param userDetails Usuario dueño de las tareas.
+	 * @return Ids de las tareas creadas, en el mismo orden recibido.
+	 */
+	@Transactional
+	public List<Long> createTasks(List<Task> tasks, UserDetails userDetails) {
+		if (userDetails == null) {
+			throw new IllegalArgumentException("La tarea debe tener un usuario asignado.");
+		}
+		for (int i = 0; i < tasks.size(); i++) {
+			Task task = tasks.get(i);
+			if (task == null || task.getTitle() == null || task.getTitle().isBlank()) {
+				throw new IllegalArgumentException("La tarea en la posición " + i + " debe tener título.");
+			}
+			task.setId(null);
+			task.setUserDetails(userDetails);
+		}
+
+		List<Long> ids = new ArrayList<>(tasks.size());
+		for (int from = 0; from < tasks.size(); from += BULK_CHUNK_SIZE) {
+			List<Task> chunk = tasks.subList(from, Math.min(from + BULK_CHUNK_SIZE, tasks.size()));
+			taskRepository.saveAll(chunk).forEach(saved -> ids.add(saved.getId()));
+			flushAndClear();
+		}
+		return ids;
+	}
+
+	/**
+	 * Actualiza varias tareas en una sola transacción. Como en patchTask, solo se
+	 * copian los campos que no son null. Las tareas se cargan por bloques con una
+	 * consulta IN que lleva el dueño en el WHERE y los UPDATE se envían en lotes.
+	 * 
+	 * @param tasks  Tareas con el id y los campos a cambiar.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin). Para
+	 *               el admin los ids que no existen se ignoran.
+	 * @return Número de tareas actualizadas.
+	 * @throws TaskNotFoundException si alguna tarea no existe o no es del usuario;
+	 *                               la transacción se revierte completa
+	 */
+	@Transactional
+	public int updateTasks(List<Task> tasks, Long userId) {
+		// Si un id viene repetido se aplica el último cambio
+		Map<Long, Task> changes = new LinkedHashMap<>();
+		for (Task task : tasks) {
+			if (task == null || task.getId() == null) {
+				throw new IllegalArgumentException("Todas las tareas deben incluir el id.");
+			}
+			if (task.getTitle() != null && task.getTitle().isBlank()) {
+				throw new IllegalArgumentException("El título no puede estar vacío.");
+			}
+			changes.put(task.getId(), task);
+		}
+
+		List<Long> ids = new ArrayList<>(changes.keySet());
+		int updated = 0;
+		for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+			List<Task> existingTasks = userId == null
+					? taskRepository.findAllById(chunk)
+					: taskRepository.findAllByIdInAndUserDetailsId(chunk, userId);
+			if (userId != null && existingTasks.size() < chunk.size()) {
+				throw new TaskNotFoundException(TASKS_NOT_OWNED_MESSAGE);
+			}
+			for (Task existingTask : existingTasks) {
+				copyPresentFields(changes.get(existingTask.getId()), existingTask);
+				updated++;
+			}
+			flushAndClear();
+		}
+		return updated;
+	}
+
+	/**
+	 * Elimina varias tareas por ID con un DELETE por cada bloque de ids, con el
+	 * dueño en el WHERE.
+	 * 
+	 * @param ids    Identificadores de las tareas.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin).
+	 * @return Número de tareas eliminadas.
+	 * @throws TaskNotFoundException si alguna tarea no existe o no es del usuario;
+	 *                               la transacción se revierte completa
 	 */
 	@Transactional
-	public boolean deleteTask(Long id) {
-		if (taskRepository.existsById(id)) {
-			taskRepository.deleteById(id);
-			return true; // La tarea fue eliminada con éxito
-		} else {
-			return false; // La tarea no fue encontrada
+	public int deleteTasks(Collection<Long> ids, Long userId) {
+		List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+		int deleted = 0;
+		for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+			List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+			if (userId == null) {
+				deleted += taskRepository.deleteByIdIn(chunk);
+				continue;
+			}
+			int chunkDeleted = taskRepository.deleteByIdInAndUser(chunk, userId);
+			if (chunkDeleted < chunk.size()) {
+				throw new TaskNotFoundException(TASKS_NOT_OWNED_MESSAGE);
+			}
+			deleted += chunkDeleted;
+		}
+		return deleted;
+	}
+
+	private static void copyEditableFields(Task source, Task target) {
+		target.setTitle(source.getTitle());
+		target.setDescription(source.getDescription());
+		target.setStatus(source.getStatus());
+		target.setDueDate(source.getDueDate());
+		target.setPriority(source.getPriority());
+	}
+
+	private static void copyPresentFields(Task source, Task target) {
+		if (source.getTitle() != null) {
+			target.setTitle(source.getTitle());
+		}
+		if (source.getDescription() != null) {
+			target.setDescription(source.getDescription());
 		}
+		if (source.getStatus() != null) {
+			target.setStatus(source.getStatus());
+		}
+		if (source.getDueDate() != null) {
+			target.setDueDate(source.getDueDate());
+		}
+		if (source.getPriority() != null) {
+			target.setPriority(source.getPriority());
+		}
+	}
+
+	private void flushAndClear() {
+		taskRepository.flush();
+		entityManager.clear();
 	}
 
 	/**
@@ -80,42 +268,263 @@ public class TaskService {
 	 * @param pageable Parámetro de paginación que incluye la página y el tamaño
 	 * @return Página de tareas filtradas
 	 */
-	public Page<Task> getTasksByFilters(Long userId, String title, String status, String priority, Pageable pageable) {
-		Task.TaskStatus taskStatus = null;
-		Task.TaskPriority taskPriority = null;
+	public Page<TaskSummary> getTasksByFilters(Long userId, String title, String status, String priority, Pageable pageable) {
+		Task.TaskStatus taskStatus = parseStatus(status);
+		Task.TaskPriority taskPriority = parsePriority(priority);
+
+		// Con userId null (admin) no se filtra por dueño
+		return taskRepository.findSummaries(TaskSpecifications.filter(userId, title, taskStatus, taskPriority),
+				pageable);
+	}
+
+	/**
+	 * Igual que getTasksByFilters pero sin consultar el total de elementos.
+	 * 
+	 * @param userId   ID del usuario, null para todas las tareas (admin)
+	 * @param title    Título de la tarea (opcional)
+	 * @param status   Estado de la tarea (opcional)
+	 * @param priority Prioridad de la tarea (opcional)
+	 * @param pageable Parámetro de paginación que incluye la página y el tamaño
+	 * @return Slice de tareas filtradas
+	 */
+	public Slice<TaskSummary> getTasksSliceByFilters(Long userId, String title, String status, String priority,
+			Pageable pageable) {
+		Task.TaskStatus taskStatus = parseStatus(status);
+		Task.TaskPriority taskPriority = parsePriority(priority);
+
+		return taskRepository.findSummarySlice(TaskSpecifications.filter(userId, title, taskStatus, taskPriority),
+				pageable);
+	}
+
+	/**
+	 * Cuenta las tareas que cumplen los filtros.
+	 * 
+	 * @param userId   ID del usuario, null para todas las tareas (admin)
+	 * @param title    Título de la tarea (opcional)
+	 * @param status   Estado de la tarea (opcional)
+	 * @param priority Prioridad de la tarea (opcional)
+	 * @return Número de tareas
+	 */
+	public long countTasksByFilters(Long userId, String title, String status, String priority) {
+		Task.TaskStatus taskStatus = parseStatus(status);
+		Task.TaskPriority taskPriority = parsePriority(priority);
+
+		return taskRepository.countMatching(TaskSpecifications.filter(userId, title, taskStatus, taskPriority));
+	}
+
+	/**
+	 * Obtiene la siguiente página de tareas filtradas a partir de un cursor
+	 * (keyset), ordenadas por id y sin consultar el total de elementos.
+	 * 
+	 * @param userId   ID del usuario, null para todas las tareas (admin)
+	 * @param title    Título de la tarea (opcional)
+	 * @param status   Estado de la tarea (opcional)
+	 * @param priority Prioridad de la tarea (opcional)
+	 * @param cursor   Cursor de la página anterior, null para la primera
+	 * @param size     Tamaño de la página
+	 * @return Página con el cursor para la siguiente
+	 */
+	public CursorPage<TaskSummary> scrollTasksByFilters(Long userId, String title, String status, String priority,
+			String cursor, int size) {
+		Task.TaskStatus taskStatus = parseStatus(status);
+		Task.TaskPriority taskPriority = parsePriority(priority);
+		long afterId = TaskCursor.decode(cursor);
+
+		// Se pide un elemento extra para saber si existe una página siguiente
+		Specification<Task> spec = TaskSpecifications.filter(userId, title, taskStatus, taskPriority)
+				.and(TaskSpecifications.idGreaterThan(afterId));
+		List<TaskSummary> tasks = taskRepository.findSummaries(spec, BY_ID, size + 1);
+
+		boolean hasNext = tasks.size() > size;
+		List<TaskSummary> content = hasNext ? tasks.subList(0, size) : tasks;
+		String nextCursor = hasNext ? TaskCursor.encode(content.get(size - 1).id()) : null;
+
+		return new CursorPage<>(content, size, hasNext, nextCursor);
+	}
+
+	/**
+	 * Valida los filtros de estado y prioridad sin consultar la base de datos,
+	 * para rechazar la solicitud antes de empezar a escribir la respuesta.
+	 * 
+	 * @param status   Estado de la tarea (opcional)
+	 * @param priority Prioridad de la tarea (opcional)
+	 * @throws IllegalArgumentException si alguno no es válido
+	 */
+	public void validateFilters(String status, String priority) {
+		parseStatus(status);
+		parsePriority(priority);
+	}
 
-		if (status != null) {
-			try {
-				taskStatus = Task.TaskStatus.valueOf(status.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				throw new IllegalArgumentException("El estado de tarea proporcionado no es válido.");
+	/**
+	 * Exporta las tareas que cumplen los filtros escribiéndolas una a una en el
+	 * flujo de salida. Las filas se leen con un cursor de solo avance, así que la
+	 * memoria usada no depende del número de tareas.
+	 * 
+	 * @param userId   ID del usuario, null para todas las tareas (admin)
+	 * @param title    Título de la tarea (opcional)
+	 * @param status   Estado de la tarea (opcional)
+	 * @param priority Prioridad de la tarea (opcional)
+	 * @param format   Formato de salida
+	 * @param out      Flujo de salida de la respuesta
+	 * @return Número de tareas exportadas
+	 * @throws IOException si falla la escritura
+	 */
+	@Transactional(readOnly = true)
+	public long exportTasks(Long userId, String title, String status, String priority,
+			TaskExportWriter.Format format, OutputStream out) throws IOException {
+		Task.TaskStatus taskStatus = parseStatus(status);
+		Task.TaskPriority taskPriority = parsePriority(priority);
+
+		long exported = 0;
+		try (Stream<TaskSummary> tasks = taskRepository.streamSummaries(
+				TaskSpecifications.filter(userId, title, taskStatus, taskPriority), BY_ID);
+				TaskExportWriter writer = TaskExportWriter.of(format, out)) {
+			for (TaskSummary task : (Iterable<TaskSummary>) tasks::iterator) {
+				writer.write(task);
+				exported++;
 			}
 		}
+		return exported;
+	}
 
-		if (priority != null) {
-			try {
-				taskPriority = Task.TaskPriority.valueOf(priority.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				throw new IllegalArgumentException("La prioridad proporcionada no es válida.");
-			}
+	/**
+	 * Busca tareas por palabras en el título o la descripción usando el índice
+	 * FULLTEXT, ordenadas por relevancia.
+	 * 
+	 * @param userId   ID del usuario, null para todas las tareas (admin)
+	 * @param query    Texto a buscar; cada palabra debe aparecer como prefijo
+	 * @param status   Estado de la tarea (opcional)
+	 * @param priority Prioridad de la tarea (opcional)
+	 * @param pageable Parámetro de paginación que incluye la página y el tamaño
+	 * @return Slice de tareas encontradas
+	 */
+	public Slice<TaskSummary> searchTasks(Long userId, String query, String status, String priority, Pageable pageable) {
+		String booleanQuery = toBooleanModeQuery(query);
+		Task.TaskStatus taskStatus = parseStatus(status);
+		Task.TaskPriority taskPriority = parsePriority(priority);
+
+		Slice<Long> ids = taskRepository.searchIds(booleanQuery, userId, taskStatus, taskPriority, pageable);
+		if (!ids.hasContent()) {
+			return new SliceImpl<>(List.of(), pageable, false);
+		}
+
+		// Las tareas se cargan con su usuario en una consulta y se devuelven en el orden
+		// de relevancia de la búsqueda
+		Map<Long, Integer> rank = new HashMap<>();
+		for (Long id : ids.getContent()) {
+			rank.put(id, rank.size());
+		}
+		List<TaskSummary> tasks = taskRepository.findSummariesByIdIn(ids.getContent()).stream()
+				.sorted(Comparator.comparing(task -> rank.get(task.id())))
+				.toList();
+		return new SliceImpl<>(tasks, pageable, ids.hasNext());
+	}
+
+	/**
+	 * Convierte el texto del usuario en una consulta MATCH ... IN BOOLEAN MODE
+	 * donde todas las palabras son obligatorias y se aceptan como prefijo.
+	 * Se descartan los operadores del modo booleano que vengan en el texto.
+	 * 
+	 * @param query
+	 * @return consulta para AGAINST
+	 */
+	public static String toBooleanModeQuery(String query) {
+		String booleanQuery = query == null ? ""
+				: Arrays.stream(query.split("[^\\p{L}\\p{N}]+"))
+						.filter(term -> !term.isEmpty())
+						.map(term -> "+" + term.toLowerCase(Locale.ROOT) + "*")
+						.collect(Collectors.joining(" "));
+
+		if (booleanQuery.isEmpty()) {
+			throw new IllegalArgumentException("La búsqueda debe contener al menos una palabra.");
+		}
+		return booleanQuery;
+	}
+
+	private static Task.TaskStatus parseStatus(String status) {
+		if (status == null) {
+			return null;
+		}
+		try {
+			return Task.TaskStatus.valueOf(status.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("El estado de tarea proporcionado no es válido.");
 		}
+	}
 
-		if (userId != null) {
-			return taskRepository.findByUserAndFilters(userId, title, taskStatus, taskPriority, pageable);
-		} else {
-			return taskRepository.findByFilters(title, taskStatus, taskPriority, pageable); // Para admin
+	private static Task.TaskPriority parsePriority(String priority) {
+		if (priority == null) {
+			return null;
+		}
+		try {
+			return Task.TaskPriority.valueOf(priority.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("La prioridad proporcionada no es válida.");
 		}
 	}
 
 	/**
-	 * Obtiene una tarea por ID.
+	 * Obtiene una tarea por ID verificando el dueño en la misma consulta.
+	 * 
+	 * @param id     Identificador de la tarea.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin).
+	 * @return La tarea, vacío si no existe o no pertenece al usuario.
+	 */
+	public Optional<Task> findTask(Long id, Long userId) {
+		return userId == null
+				? taskRepository.findById(id)
+				: taskRepository.findByIdAndUserDetailsId(id, userId);
+	}
+
+	/**
+	 * Obtiene varias tareas por id con el dueño en la misma consulta. Solo si
+	 * falta alguna se consulta cuáles existen, para reportarlas como
+	 * inexistentes o ajenas.
+	 * 
+	 * @param ids    Ids de las tareas; los repetidos se consultan una vez.
+	 * @param userId ID del usuario dueño, null para cualquier tarea (admin).
+	 * @return Tareas en el orden recibido e ids no encontrados o ajenos.
+	 */
+	@Transactional(readOnly = true)
+	public TaskBatchGetResponse findTasks(Collection<Long> ids, Long userId) {
+		List<Long> requested = List.copyOf(new LinkedHashSet<>(ids));
+		Map<Long, Task> found = new HashMap<>();
+		List<Task> loaded = userId == null
+				? taskRepository.findAllByIdIn(requested)
+				: taskRepository.findAllByIdInAndUser(requested, userId);
+		for (Task task : loaded) {
+			found.put(task.getId(), task);
+		}
+
+		List<Task> tasks = new ArrayList<>(found.size());
+		List<Long> missing = new ArrayList<>();
+		for (Long id : requested) {
+			Task task = found.get(id);
+			if (task != null) {
+				tasks.add(task);
+			} else {
+				missing.add(id);
+			}
+		}
+		if (missing.isEmpty()) {
+			return new TaskBatchGetResponse(tasks, List.of(), List.of());
+		}
+
+		Set<Long> existing = new HashSet<>(taskRepository.findExistingIds(missing));
+		Map<Boolean, List<Long>> byExistence = missing.stream()
+				.collect(Collectors.partitioningBy(existing::contains));
+		return new TaskBatchGetResponse(tasks, byExistence.get(false), byExistence.get(true));
+	}
+
+	/**
+	 * Indica si existe una tarea. Se usa solo cuando una operación con dueño no
+	 * encontró la tarea, para distinguir entre inexistente y ajena.
 	 * 
 	 * @param id Identificador de la tarea.
-	 * @return La tarea encontrada.
+	 * @return boolean
 	 */
-	public Task getTaskById(Long id) {
-		return taskRepository.findById(id)
-				.orElseThrow(() -> new TaskNotFoundException(TASK_NOT_FOUND_MESSAGE + id));
+	public boolean existsTask(Long id) {
+		return taskRepository.existsById(id);
 	}
 
 	/**
@@ -124,8 +533,18 @@ public class TaskService {
 	 * @param pageRequest
 	 * @return
 	 */
-	public Page<Task> getAllTasks(PageRequest pageRequest) {
-		return taskRepository.findAll(pageRequest);
+	public Page<TaskSummary> getAllTasks(PageRequest pageRequest) {
+		return taskRepository.findAllSummaries(pageRequest);
+	}
+
+	/**
+	 * Metodo para listar todas las tareas sin consultar el total
+	 * 
+	 * @param pageRequest
+	 * @return
+	 */
+	public Slice<TaskSummary> getAllTasksSlice(PageRequest pageRequest) {
+		return taskRepository.findSliceOfSummaries(pageRequest);
 	}
 
 	/**
@@ -135,7 +554,18 @@ public class TaskService {
 	 * @param pageRequest
 	 * @return
 	 */
-	public Page<Task> getTasksByUser(String username, PageRequest pageRequest) {
+	public Page<TaskSummary> getTasksByUser(String username, PageRequest pageRequest) {
 		return taskRepository.findByUsername(username, pageRequest);
 	}
+
+	/**
+	 * Método para obtener las tareas de un usuario sin consultar el total
+	 * 
+	 * @param username
+	 * @param pageRequest
+	 * @return
+	 */
+	public Slice<TaskSummary> getTasksSliceByUser(String username, PageRequest pageRequest) {
+		return taskRepository.findSliceByUsername(username, pageRequest);
+	}
 }
\ No newline at end of file
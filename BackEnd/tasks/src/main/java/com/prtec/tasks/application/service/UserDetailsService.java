@@ -4,9 +4,11 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.prtec.tasks.adapter.out.repository.IUserDetailsRepository;
+import com.prtec.tasks.application.cache.UserDetailsCache;
 import com.prtec.tasks.domain.model.entity.UserDetails;
 
 @Service
@@ -14,6 +16,7 @@ import com.prtec.tasks.domain.model.entity.UserDetails;
 public class UserDetailsService {
 
 	private final IUserDetailsRepository repository;
+	private final UserDetailsCache userDetailsCache;
 
 	public UserDetails saveOrUpdateUserDetails(Long userId, String username, String email, String firstName,
 			String lastName) {
@@ -24,26 +27,50 @@ public class UserDetailsService {
 		userDetails.setFirstName(firstName);
 		userDetails.setLastName(lastName);
 
-		return repository.save(userDetails);
+		UserDetails saved = repository.save(userDetails);
+		userDetailsCache.invalidate(userId);
+		return saved;
 	}
 
 	public Optional<UserDetails> findByUsername(String username) {
 		return repository.findByUsername(username);
 	}
 
+	/**
+	 * Obtiene el usuario asociado al id del auth, creándolo la primera vez. Tras
+	 * la primera solicitud el registro sale del cache y crear una tarea queda en
+	 * un solo INSERT.
+	 *
+	 * @param userId   Id del usuario en el servicio auth
+	 * @param username Usuario del token
+	 * @return UserDetails desacoplado de la sesión
+	 */
 	public UserDetails findOrCreateUser(Long userId, String username) {
+		if (userId == null) {
+			return loadOrCreateUser(null, username);
+		}
+		return userDetailsCache.get(userId, id -> loadOrCreateUser(id, username));
+	}
+
+	public UserDetails getUserDetailsById(Long id) {
+		return repository.findById(id).orElse(null);
+	}
+
+	private UserDetails loadOrCreateUser(Long userId, String username) {
 		return repository.findByUsername(username)
 				.orElseGet(() -> {
 					// Crear nuevo UserDetails asociado a id del auth
 					UserDetails newUser = new UserDetails();
 					newUser.setUserId(userId);
 					newUser.setUsername(username);
-					return repository.save(newUser);
+					try {
+						return repository.save(newUser);
+					} catch (DataIntegrityViolationException e) {
+						// Otra instancia lo insertó entre la consulta y el INSERT
+						// (llaves únicas de user_id y username): se usa ese registro
+						return repository.findByUsername(username).orElseThrow(() -> e);
+					}
 				});
 	}
 
-	public UserDetails getUserDetailsById(Long id) {
-		return repository.findById(id).orElse(null);
-	}
-
 }
\ No newline at end of file
@@ -4,18 +4,19 @@ import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import com.prtec.tasks.application.exceptions.TokenException;
-import com.prtec.tasks.application.service.TaskService;
-import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
 
 /**
  * Utilidad para reducir complejidad de los Controladores
  * 
  * @author Edgar Andres
- * @version 1.0
+ * @version 1.1
  */
 @Component
 public class AuthUtils {
@@ -59,59 +60,48 @@ public class AuthUtils {
 	}
 
 	/**
-	 * Método que verifica si el token corresponde al propietario de la tarea.
+	 * Método para obtener los datos del token de la solicitud actual.
 	 * 
-	 * @param authHeader  Encabezado de autorización con el token.
-	 * @param taskId      Id de area que se quiere verificar.
-	 * @param taskService Utilidad para consultar tareas
-	 * @return true si el token corresponde al propietario de la tarea, false en
-	 *         caso contrario.
+	 * Reutiliza el principal que el filtro de autenticación dejó en el contexto de
+	 * seguridad y solo decodifica el token cuando no está disponible.
+	 * 
+	 * @param authHeader Encabezado de autorización con el token.
+	 * @return JwtPrincipal, o null si el encabezado no es válido
 	 */
-	public boolean isTaskOwnedByUser(String authHeader, Long taskId, TaskService taskService) {
-		return isTaskOwnedByUser(authHeader, taskId, taskService, false);
+	public JwtPrincipal getPrincipal(String authHeader) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+			return principal;
+		}
+
+		ResponseEntity<String> tokenResponse = getTokenFromAuthHeader(authHeader);
+		if (tokenResponse.getStatusCode() == HttpStatus.UNAUTHORIZED || tokenResponse.getBody() == null) {
+			return null;
+		}
+		return jwtUtil.getPrincipalFromToken(tokenResponse.getBody());
 	}
 
 	/**
-	 * Método que verifica si el token corresponde al propietario de la tarea.
+	 * Método para obtener el usuario con el que se filtran las operaciones sobre
+	 * una tarea (WHERE id = ? AND user_id = ?), de modo que la autorización y la
+	 * operación sean una sola sentencia.
 	 * 
-	 * @param authHeader     Encabezado de autorización con el token.
-	 * @param taskId         Id de area que se quiere verificar.
-	 * @param taskService    Utilidad para consultar tareas
-	 * @param adminIsAllowed Cambia el comportamiento y si es true con solo ser
-	 *                       admin retorna true
-	 * @return true si el token corresponde al propietario de la tarea, false en
-	 *         caso contrario.
+	 * @param principal Datos del token.
+	 * @return id del usuario, o null si es admin y puede operar sobre cualquier
+	 *         tarea
+	 * @throws TokenException si el token no es válido o no identifica al usuario
 	 */
-	public boolean isTaskOwnedByUser(String authHeader, Long taskId, TaskService taskService, boolean adminIsAllowed) {
-		// Obtener el token del encabezado de autorización
-		ResponseEntity<String> tokenResponse = getTokenFromAuthHeader(authHeader);
-
-		// Si el token es inválido o está ausente, retorna false
-		if (tokenResponse.getStatusCode() == HttpStatus.UNAUTHORIZED || tokenResponse.getBody() == null) {
-			return false;
+	public Long getTaskOwnerFilter(JwtPrincipal principal) throws TokenException {
+		if (principal == null) {
+			throw new TokenException("Token no autorizado.");
 		}
-
-		String token = tokenResponse.getBody();
-
-		// Si adminIsAllowed es true, verifica si el usuario tiene rol de admin y si lo
-		// es permite el cambio
-		if (adminIsAllowed && hasRole(token, ADMIN_ROLE_NAME)) {
-			return true;
+		if (principal.hasRole(ADMIN_ROLE_NAME)) {
+			return null;
 		}
-
-		// Si no es admin continua con la validacion de propiedad de la tarea.
-
-		// Extraer el userId del token
-		Long userId = jwtUtil.getUserIdFromToken(token);
-
-		// Obtener la tarea existente utilizando taskId
-		Task existingTask = taskService.getTaskById(taskId);
-		if (existingTask == null) {
-			return false; // Tarea no encontrada
+		if (principal.userId() == null) {
+			throw new TokenException("Token no autorizado.");
 		}
-
-		// Verificar si el userId del token coincide con el userId de la tarea
-		return userId != null && userId.equals(existingTask.getUserDetails().getId());
+		return principal.userId();
 	}
 
 	/**
@@ -127,20 +117,28 @@ public class AuthUtils {
 	/**
 	 * Metodo que valida si un usuario es Administrador
 	 * 
+	 * @param principal
+	 * @return boolean
+	 */
+	public boolean isAdminUser(JwtPrincipal principal) {
+		return principal != null && principal.hasRole(ADMIN_ROLE_NAME);
+	}
+
+	/**
+	 * Metodo que valida si un usuario tiene el rol requerido
+	 * 
 	 * @param authHeader
 	 * @param requiredRole
 	 * @return boolean
 	 */
 	public boolean validateUserRole(String authHeader, String requiredRole) {
-		// Obtener el token del encabezado de autorización
-		ResponseEntity<String> tokenResponse = getTokenFromAuthHeader(authHeader);
+		JwtPrincipal principal = getPrincipal(authHeader);
 
-		// Si el token es inválido o está ausente, retorna false
-		if (tokenResponse.getStatusCode() == HttpStatus.UNAUTHORIZED || tokenResponse.getBody() == null) {
+		// Si el token es inválido o está ausente, lanza la excepción
+		if (principal == null) {
 			throw new TokenException("Token no autorizado.");
 		}
 
-		String token = tokenResponse.getBody();
-		return hasRole(token, requiredRole);
+		return principal.hasRole(requiredRole);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.prtec.tasks.application.utils;
+
+import java.io.IOException;
+import java.util.Base64;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.prtec.tasks.domain.model.dto.JwtClaims;
+
+/**
+ * Decodificador del payload JWT sin validar la firma.
+ *
+ * <p>
+ * Ubica los segmentos del token por posición, decodifica solo el payload y lo
+ * lee directamente como {@link JwtClaims} con un lector compartido (los
+ * ObjectReader son inmutables y seguros entre hilos), sin pasar por un mapa
+ * intermedio.
+ * </p>
+ */
+public final class JwtPayloadDecoder {
+	private static final Logger logger = LoggerFactory.getLogger(JwtPayloadDecoder.class);
+	private static final ObjectReader CLAIMS_READER = new ObjectMapper().readerFor(JwtClaims.class);
+	private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+	private JwtPayloadDecoder() {
+	}
+
+	/**
+	 * Metodo para decodificar el payload del token
+	 *
+	 * @param token JWT en formato estándar (header.payload.signature)
+	 * @return JwtClaims decodificados, o {@link JwtClaims#EMPTY} si el token es
+	 *         inválido
+	 */
+	public static JwtClaims decode(String token) {
+		if (token == null) {
+			return JwtClaims.EMPTY;
+		}
+
+		int firstDot = token.indexOf('.');
+		int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+		if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+			logger.error("Token inválido: no tiene el formato correcto");
+			return JwtClaims.EMPTY;
+		}
+
+		try {
+			byte[] payload = BASE64_URL.decode(token.substring(firstDot + 1, secondDot));
+			JwtClaims claims = CLAIMS_READER.readValue(payload);
+			return claims != null ? claims : JwtClaims.EMPTY;
+		} catch (IllegalArgumentException | IOException e) {
+			logger.error("Error al extraer el payload del token: {}", e.getMessage());
+			return JwtClaims.EMPTY;
+		}
+	}
+}
@@ -1,15 +1,16 @@
 package com.prtec.tasks.application.utils;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.crypto.SecretKey;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -20,22 +21,33 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.prtec.tasks.application.cache.TokenVerificationCoalescer;
+import com.prtec.tasks.application.cache.VerifiedTokenCache;
+import com.prtec.tasks.application.config.JwtProperties;
 import com.prtec.tasks.domain.model.dto.ApiResponseDTO;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.prtec.tasks.domain.model.dto.JwtClaims;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 
 /**
  * Utilidad para trabajar con JWT
  * 
  * @author Edgar Martinez
- * @version 1.1
+ * @version 1.6
  */
 @Component
 public class JwtUtil {
@@ -46,45 +58,126 @@ public class JwtUtil {
 	@Value("${custom.endpoints.auth:http://localhost:8080}")
 	private String authServiceUrl;
 
-	private final RestTemplate restTemplate = new RestTemplate();
+	// Cliente con pool y timeouts (AuthClientConfig)
+	private final RestTemplate restTemplate;
+
+	// Parser con la llave compartida; null si la validación local no está activa
+	private final JwtParser localParser;
+	private final boolean remoteVerificationEnabled;
+	// Parser para validar la firma cuando el servicio auth no está disponible
+	private final JwtParser unavailableFallbackParser;
+	private final CircuitBreaker authCircuitBreaker;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenVerificationCoalescer verificationCoalescer;
 
 	/**
-	 * Metodo para extraer payload sin requerir la llave de firma.
-	 * Solo decodifica el contenido sin validar la firma.
+	 * Constructor sin llave local, los tokens se validan contra el servicio auth.
+	 */
+	public JwtUtil() {
+		this(new JwtProperties());
+	}
+
+	/**
+	 * Constructor que define el modo de verificación a partir de la configuración.
 	 *
-	 * @param token JWT en formato estándar
-	 * @return Claims decodificados, o vacíos si el token es inválido
+	 * @param jwtProperties Propiedades de JWT.
 	 */
-	public Claims getPayloadFromToken(String token) {
-		try {
-			// Validar estructura básica del token
-			String[] parts = token.split("\\.");
-			if (parts.length != 3) {
-				logger.error("Token inválido: no tiene el formato correcto");
-				return Jwts.claims().build();
-			}
+	public JwtUtil(JwtProperties jwtProperties) {
+		this(jwtProperties, new VerifiedTokenCache(jwtProperties), new TokenVerificationCoalescer(),
+				new RestTemplate(), CircuitBreaker.ofDefaults("auth"));
+	}
 
-			// Decodificar el payload
-			String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+	/**
+	 * Constructor que define el modo de verificación a partir de la configuración.
+	 *
+	 * @param jwtProperties         Propiedades de JWT inyectadas desde la
+	 *                              configuración.
+	 * @param verifiedTokenCache    Cache de tokens verificados remotamente.
+	 * @param verificationCoalescer Agrupa verificaciones remotas concurrentes del
+	 *                              mismo token.
+	 * @param authRestTemplate      Cliente HTTP para el servicio auth.
+	 * @param authCircuitBreaker    Circuit breaker de las llamadas al servicio
+	 *                              auth.
+	 */
+	@Autowired
+	public JwtUtil(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache,
+			TokenVerificationCoalescer verificationCoalescer,
+			@Qualifier("authRestTemplate") RestTemplate authRestTemplate,
+			CircuitBreaker authCircuitBreaker) {
+		this.restTemplate = authRestTemplate;
+		this.authCircuitBreaker = authCircuitBreaker;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.verificationCoalescer = verificationCoalescer;
+		this.localParser = buildLocalParser(jwtProperties);
+		this.remoteVerificationEnabled = jwtProperties.getVerificationMode() == JwtProperties.VerificationMode.REMOTE
+				|| (localParser == null && jwtProperties.isRemoteFallback());
+		this.unavailableFallbackParser = localParser == null
+				&& jwtProperties.getUnavailableFallback() == JwtProperties.UnavailableFallback.LOCAL
+				&& StringUtils.hasText(jwtProperties.getSecret())
+						? buildParser(jwtProperties.getSecret())
+						: null;
+
+		if (localParser == null && !remoteVerificationEnabled) {
+			logger.error("JWT: sin llave local ni verificación remota, todos los tokens serán rechazados.");
+		} else {
+			logger.info("JWT: verificación de tokens en modo {}.", localParser != null ? "LOCAL" : "REMOTE");
+		}
+	}
+
+	/**
+	 * Metodo para construir el parser que valida la firma HS256 localmente.
+	 *
+	 * @param jwtProperties
+	 * @return parser reutilizable, o null si no aplica la validación local
+	 */
+	private static JwtParser buildLocalParser(JwtProperties jwtProperties) {
+		if (jwtProperties.getVerificationMode() != JwtProperties.VerificationMode.LOCAL) {
+			return null;
+		}
 
-			// Convertir JSON a Map
-			ObjectMapper mapper = new ObjectMapper();
-			Map<String, Object> map = mapper.readValue(payload, new TypeReference<Map<String, Object>>() {
-			});
+		if (!StringUtils.hasText(jwtProperties.getSecret())) {
+			logger.warn("JWT: modo LOCAL sin llave configurada (custom.security.jwt.secret).");
+			return null;
+		}
 
-			// Crear un nuevo objeto Claims con el contenido del mapa
-			return Jwts.claims()
-					.subject(map.get("sub").toString())
-					.issuedAt(new Date(((Number) map.get("iat")).longValue() * 1000))
-					.expiration(new Date(((Number) map.get("exp")).longValue() * 1000))
-					.add(USER_ID, map.get(USER_ID))
-					.add(ROLES, map.get(ROLES))
-					.build();
+		return buildParser(jwtProperties.getSecret());
+	}
 
+	/**
+	 * Metodo para construir un parser HS256 con la llave en Base64.
+	 *
+	 * @param secret
+	 * @return JwtParser
+	 */
+	private static JwtParser buildParser(String secret) {
+		try {
+			SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+			return Jwts.parser().verifyWith(key).build();
 		} catch (Exception e) {
-			logger.error("Error al extraer el payload del token: {}", e.getMessage());
+			throw new IllegalArgumentException("Error al convertir clave JWT.", e);
+		}
+	}
+
+	/**
+	 * Metodo para extraer payload sin requerir la llave de firma.
+	 * Solo decodifica el contenido sin validar la firma.
+	 *
+	 * @param token JWT en formato estándar
+	 * @return Claims decodificados, o vacíos si el token es inválido
+	 */
+	public Claims getPayloadFromToken(String token) {
+		JwtClaims claims = JwtPayloadDecoder.decode(token);
+		if (claims == JwtClaims.EMPTY) {
 			return Jwts.claims().build();
 		}
+
+		return Jwts.claims()
+				.subject(claims.subject())
+				.issuedAt(claims.issuedAtDate())
+				.expiration(claims.expirationDate())
+				.add(USER_ID, claims.userId())
+				.add(ROLES, claims.roles())
+				.build();
 	}
 
 	/**
@@ -94,7 +187,7 @@ public class JwtUtil {
 	 * @return fecha de expiracion del token
 	 */
 	public Date getExpirationFromToken(String token) {
-		return getPayloadFromToken(token).getExpiration();
+		return JwtPayloadDecoder.decode(token).expirationDate();
 	}
 
 	/**
@@ -104,7 +197,7 @@ public class JwtUtil {
 	 * @return
 	 */
 	public Long getUserIdFromToken(String token) {
-		return Long.parseLong(getPayloadFromToken(token).get(USER_ID).toString());
+		return JwtPayloadDecoder.decode(token).userId();
 	}
 
 	/**
@@ -114,7 +207,7 @@ public class JwtUtil {
 	 * @return nombre del usuario
 	 */
 	public String getUsernameFromToken(String token) {
-		return getPayloadFromToken(token).getSubject();
+		return JwtPayloadDecoder.decode(token).subject();
 	}
 
 	/**
@@ -124,34 +217,183 @@ public class JwtUtil {
 	 * @return List<GrantedAuthority>
 	 */
 	public List<GrantedAuthority> getRolesFromToken(String token) {
-		List<?> roles = getPayloadFromToken(token).get(ROLES, List.class);
+		return toAuthorities(JwtPayloadDecoder.decode(token).roles());
+	}
+
+	/**
+	 * Metodo para decodificar una sola vez los datos del token que usan el filtro y
+	 * los controladores
+	 * 
+	 * @param token
+	 * @return JwtPrincipal, con campos vacíos si el token no se puede decodificar
+	 */
+	public JwtPrincipal getPrincipalFromToken(String token) {
+		JwtClaims claims = JwtPayloadDecoder.decode(token);
+
+		return new JwtPrincipal(
+				claims.userId(),
+				claims.subject(),
+				toAuthorities(claims.roles()),
+				claims.expirationDate());
+	}
 
-		return roles == null ? Collections.emptyList()
-				: roles.stream()
-						.filter(String.class::isInstance)
-						.map(role -> new SimpleGrantedAuthority((String) role))
-						.collect(Collectors.toList());
+	private static List<GrantedAuthority> toAuthorities(List<String> roles) {
+		return roles.stream()
+				.map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+				.collect(Collectors.toList());
 	}
 
 	/**
-	 * Metodo para validar si un token es valido consultando al servicio de
-	 * autenticación
+	 * Metodo para validar si un token es valido, verificando la firma localmente o
+	 * consultando al servicio de autenticación según la configuración
 	 * 
 	 * @param token
 	 * @param currentUsername
 	 * @return boolean
 	 */
 	public boolean isTokenValid(String token, String currentUsername) {
-		try {
+		if (localParser != null) {
+			return isTokenValidLocally(token, currentUsername);
+		}
+
+		final String tokenUsername = getUsernameFromToken(token);
+		if (tokenUsername == null || !tokenUsername.equals(currentUsername) || isTokenExpired(token)) {
+			logger.warn("Usuario inválido en el token: {}", tokenUsername);
+			return false;
+		}
+
+		return isTokenValidRemotely(token, getExpirationFromToken(token));
+	}
+
+	/**
+	 * Metodo para validar un token ya decodificado, sin volver a leer su payload
+	 * 
+	 * @param token
+	 * @param principal Datos decodificados del mismo token
+	 * @return boolean
+	 */
+	public boolean isTokenValid(String token, JwtPrincipal principal) {
+		if (localParser != null) {
+			return isTokenValidLocally(token, principal.username());
+		}
 
-			final String tokenUsername = getUsernameFromToken(token);
-			boolean isValidUsername = tokenUsername.equals(currentUsername) && !isTokenExpired(token);
+		if (principal.username() == null || principal.isExpired()) {
+			logger.warn("Usuario inválido en el token: {}", principal.username());
+			return false;
+		}
+
+		return isTokenValidRemotely(token, principal.expiration());
+	}
+
+	/**
+	 * Metodo para validar la firma, expiración y usuario del token sin salir del
+	 * servicio
+	 * 
+	 * @param token
+	 * @param currentUsername
+	 * @return boolean
+	 */
+	private boolean isTokenValidLocally(String token, String currentUsername) {
+		try {
+			// parseSignedClaims valida firma y expiración
+			String tokenUsername = localParser.parseSignedClaims(token).getPayload().getSubject();
+			boolean isValidUsername = tokenUsername != null && tokenUsername.equals(currentUsername);
 
 			if (!isValidUsername) {
 				logger.warn("Usuario inválido en el token: {}", tokenUsername);
-				return false;
 			}
+			return isValidUsername;
+		} catch (ExpiredJwtException e) {
+			logger.warn("Token expirado para: {}", e.getClaims().getSubject());
+			return false;
+		} catch (JwtException | IllegalArgumentException e) {
+			logger.error("No se pudo validar el token: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Metodo para validar si un token es valido consultando al servicio de
+	 * autenticación
+	 * 
+	 * @param token
+	 * @param expiration Fecha de expiración del token, usada por el cache
+	 * @return boolean
+	 */
+	private boolean isTokenValidRemotely(String token, Date expiration) {
+		if (!remoteVerificationEnabled) {
+			logger.warn("Token rechazado: no hay un modo de verificación disponible.");
+			return false;
+		}
+
+		if (verifiedTokenCache.isVerified(token)) {
+			return true;
+		}
 
+		// Las solicitudes concurrentes con el mismo token comparten una sola llamada;
+		// si esa llamada tarda más que el timeout del cliente, se tratan como auth no
+		// disponible
+		return verificationCoalescer.verify(token, () -> {
+			boolean isValid;
+			try {
+				isValid = authCircuitBreaker.executeSupplier(() -> verifyWithAuthService(token));
+			} catch (CallNotPermittedException e) {
+				logger.debug("Circuit breaker abierto, se omite la llamada al servicio auth.");
+				return isTokenValidWhileAuthUnavailable(token);
+			} catch (RestClientException e) {
+				logger.error("No se pudo consultar el servicio auth: {}", e.getMessage());
+				return isTokenValidWhileAuthUnavailable(token);
+			}
+
+			if (isValid) {
+				verifiedTokenCache.markVerified(token, expiration);
+			}
+			return isValid;
+		}, () -> isTokenValidWhileAuthUnavailable(token));
+	}
+
+	/**
+	 * Metodo para validar un token sin el servicio auth (unavailableFallback)
+	 *
+	 * <p>
+	 * Con llave configurada se valida la firma localmente; sin llave, o en modo
+	 * CACHE, solo se aceptan tokens verificados recientemente.
+	 * </p>
+	 *
+	 * @param token
+	 * @return boolean
+	 */
+	private boolean isTokenValidWhileAuthUnavailable(String token) {
+		if (verifiedTokenCache.isVerified(token)) {
+			return true;
+		}
+		if (unavailableFallbackParser == null) {
+			return false;
+		}
+
+		try {
+			unavailableFallbackParser.parseSignedClaims(token);
+			return true;
+		} catch (JwtException | IllegalArgumentException e) {
+			logger.warn("Token rechazado por la validación local: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Metodo para consultar el endpoint /api/verify del servicio de autenticación
+	 * 
+	 * <p>
+	 * Las respuestas 4xx son un token rechazado; los errores de conexión, los 5xx y
+	 * las respuestas ilegibles se propagan como RestClientException para que
+	 * cuenten como fallos en el circuit breaker.
+	 * </p>
+	 * 
+	 * @param token
+	 * @return boolean
+	 */
+	private boolean verifyWithAuthService(String token) {
+		try {
 			String url = authServiceUrl + "/api/verify";
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.TEXT_PLAIN);
@@ -166,29 +408,18 @@ public class JwtUtil {
 					});
 
 			ApiResponseDTO<Map<String, Object>> responseBody = response.getBody();
-			return response.getStatusCode().is2xxSuccessful() &&
+			boolean isValid = response.getStatusCode().is2xxSuccessful() &&
 					responseBody != null &&
 					responseBody.getStatus() == ApiResponseDTO.Status.SUCCESS &&
+					responseBody.getData() != null &&
 					Boolean.TRUE.equals(responseBody.getData().get("valid"));
-		} catch (ResourceAccessException e) {
-			// Esta excepción suele indicar problemas de conexión, como que el servidor no
-			// está disponible
-			logger.error("Error de acceso al recurso (posible problema de conexión): {}", e.getMessage());
-			// Aquí podrías registrar el error, lanzar una excepción personalizada, o
-			// devolver un valor por defecto
-			return false;
+
+			return isValid;
 		} catch (HttpClientErrorException e) {
 			// Esta excepción indica errores del lado del cliente (códigos 4xx), incluyendo
 			// el 401
 			logger.error("Error del cliente ({}): {}", e.getStatusCode(), e.getResponseBodyAsString());
 			return false;
-		} catch (HttpServerErrorException e) {
-			// Esta excepción indica errores del lado del servidor (códigos 5xx)
-			logger.error("Error del servidor ({}): {}", e.getStatusCode(), e.getResponseBodyAsString());
-			return false;
-		} catch (Exception e) {
-			logger.error("No se pudo validar el token: {}", e.getMessage());
-			return false;
 		}
 	}
 
@@ -199,6 +430,7 @@ public class JwtUtil {
 	 * @return verdadero o false dependiendo si el token está expirado
 	 */
 	public boolean isTokenExpired(String token) {
-		return getExpirationFromToken(token).before(new Date());
+		Date expiration = getExpirationFromToken(token);
+		return expiration == null || expiration.before(new Date());
 	}
 }
\ No newline at end of file
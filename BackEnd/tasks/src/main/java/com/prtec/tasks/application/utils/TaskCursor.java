@@ -0,0 +1,56 @@
+package com.prtec.tasks.application.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación por keyset de tareas.
+ *
+ * <p>
+ * Codifica el id de la última tarea entregada; la siguiente página empieza en
+ * el primer id mayor. El formato no es parte del contrato del API.
+ * </p>
+ */
+public final class TaskCursor {
+	private static final String PREFIX = "id:";
+
+	private TaskCursor() {
+	}
+
+	/**
+	 * Metodo para generar el cursor a partir del id de la última tarea
+	 *
+	 * @param lastId
+	 * @return cursor opaco
+	 */
+	public static String encode(long lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Metodo para obtener el id a partir del cursor
+	 *
+	 * @param cursor Cursor recibido, null o vacío para la primera página
+	 * @return id después del cual continúa la página (0 para la primera)
+	 * @throws IllegalArgumentException si el cursor no es válido
+	 */
+	public static long decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0L;
+		}
+
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+			if (value.startsWith(PREFIX)) {
+				long lastId = Long.parseLong(value.substring(PREFIX.length()));
+				if (lastId >= 0) {
+					return lastId;
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			// Base64 o número inválido, se reporta abajo
+		}
+		throw new IllegalArgumentException("El cursor proporcionado no es válido.");
+	}
+}
@@ -0,0 +1,177 @@
+package com.prtec.tasks.application.utils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+
+/**
+ * Escritor de la exportación de tareas, una fila a la vez y directamente sobre
+ * el flujo de salida, sin acumular el resultado en memoria.
+ *
+ * <p>
+ * NDJSON escribe cada tarea con el mismo formato JSON de los listados, una por
+ * línea. CSV escribe una fila por tarea con encabezado, con las columnas del
+ * dueño aplanadas.
+ * </p>
+ */
+public abstract class TaskExportWriter implements Closeable {
+	private static final ObjectWriter JSON_WRITER = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			// El generador ya escribe por bloques; sin flush por tarea
+			.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+			.writerFor(TaskSummary.class)
+			.withRootValueSeparator("\n");
+
+	/**
+	 * Formatos de exportación soportados.
+	 */
+	public enum Format {
+		NDJSON("application/x-ndjson", "ndjson"),
+		CSV("text/csv;charset=UTF-8", "csv");
+
+		private final String contentType;
+		private final String extension;
+
+		Format(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public String getExtension() {
+			return extension;
+		}
+
+		/**
+		 * Metodo para obtener el formato a partir del parámetro de la solicitud
+		 *
+		 * @param format Nombre del formato, sin importar mayúsculas
+		 * @return Format
+		 * @throws IllegalArgumentException si el formato no es soportado
+		 */
+		public static Format from(String format) {
+			try {
+				return Format.valueOf(format.toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException | NullPointerException e) {
+				throw new IllegalArgumentException("El formato de exportación debe ser ndjson o csv.");
+			}
+		}
+	}
+
+	/**
+	 * Metodo para crear el escritor del formato indicado
+	 *
+	 * @param format Formato de salida
+	 * @param out    Flujo de salida; se cierra al cerrar el escritor
+	 * @return TaskExportWriter
+	 * @throws IOException
+	 */
+	public static TaskExportWriter of(Format format, OutputStream out) throws IOException {
+		return format == Format.CSV ? new CsvWriter(out) : new NdjsonWriter(out);
+	}
+
+	/**
+	 * Metodo para escribir una tarea
+	 *
+	 * @param task
+	 * @throws IOException
+	 */
+	public abstract void write(TaskSummary task) throws IOException;
+
+	private static final class NdjsonWriter extends TaskExportWriter {
+		private final JsonGenerator generator;
+		private boolean empty = true;
+
+		private NdjsonWriter(OutputStream out) throws IOException {
+			this.generator = JSON_WRITER.createGenerator(out);
+		}
+
+		@Override
+		public void write(TaskSummary task) throws IOException {
+			JSON_WRITER.writeValue(generator, task);
+			empty = false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// El separador va entre tareas; la última línea también termina en salto
+			if (!empty) {
+				generator.writeRaw('\n');
+			}
+			generator.close();
+		}
+	}
+
+	private static final class CsvWriter extends TaskExportWriter {
+		private static final String HEADER = "id,title,description,status,priority,dueDate,username,firstName,lastName";
+		// Primer carácter con el que Excel o LibreOffice interpretan la celda como fórmula
+		private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+		private final Writer writer;
+
+		private CsvWriter(OutputStream out) throws IOException {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			writer.write(HEADER);
+			writer.write("\r\n");
+		}
+
+		@Override
+		public void write(TaskSummary task) throws IOException {
+			TaskSummary.Owner owner = task.userDetails();
+			writer.write(String.valueOf(task.id()));
+			writeField(task.title());
+			writeField(task.description());
+			writeField(task.status());
+			writeField(task.priority());
+			writeField(task.dueDate());
+			writeField(owner == null ? null : owner.username());
+			writeField(owner == null ? null : owner.firstName());
+			writeField(owner == null ? null : owner.lastName());
+			writer.write("\r\n");
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+
+		// RFC 4180: entre comillas si contiene separador, comillas o saltos de línea.
+		// Un valor que empieza como fórmula se escribe entre comillas con un
+		// apóstrofo delante, para que la hoja de cálculo lo muestre como texto
+		private void writeField(Object value) throws IOException {
+			writer.write(',');
+			if (value == null) {
+				return;
+			}
+			String text = value.toString();
+			boolean formula = !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+			if (!formula && text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0
+					&& text.indexOf('\r') < 0) {
+				writer.write(text);
+				return;
+			}
+			writer.write('"');
+			if (formula) {
+				writer.write('\'');
+			}
+			writer.write(text.replace("\"", "\"\""));
+			writer.write('"');
+		}
+	}
+}
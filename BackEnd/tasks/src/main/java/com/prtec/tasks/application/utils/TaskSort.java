@@ -0,0 +1,69 @@
+package com.prtec.tasks.application.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Órdenes permitidos en los listados de tareas.
+ *
+ * <p>
+ * Solo se aceptan las llaves con un índice que las respalde (ver
+ * V3__tasks_sort_indexes.sql) y todas terminan en id en la misma dirección, de
+ * modo que el orden es estable entre páginas y MySQL lo lee del índice sin
+ * filesort.
+ * </p>
+ */
+public final class TaskSort {
+	public static final String DESCRIPTION = "Orden: dueDate, priority, createdAt, updatedAt o status, "
+			+ "con ,asc (por defecto) o ,desc. Sin orden se ordena por id";
+
+	/**
+	 * Orden por defecto: el de inserción
+	 */
+	public static final Sort DEFAULT = Sort.by("id");
+
+	// Llave del API -> propiedades de Task en el orden de su índice
+	private static final Map<String, List<String>> KEYS = Map.of(
+			"dueDate", List.of("dueDate"),
+			"priority", List.of("priority"),
+			"createdAt", List.of("createdAt"),
+			"updatedAt", List.of("updatedAt"),
+			"status", List.of("status", "priority"));
+
+	private TaskSort() {
+	}
+
+	/**
+	 * Metodo para obtener el orden a partir del parámetro sort
+	 *
+	 * @param sort Llave y dirección opcional, por ejemplo "dueDate,desc"; null o
+	 *             vacío para el orden por defecto
+	 * @return Sort terminado en id
+	 * @throws IllegalArgumentException si la llave o la dirección no son válidas
+	 */
+	public static Sort parse(String sort) {
+		if (sort == null || sort.isBlank()) {
+			return DEFAULT;
+		}
+
+		String[] parts = sort.split(",", -1);
+		List<String> properties = KEYS.get(parts[0].trim());
+		if (properties == null || parts.length > 2) {
+			throw new IllegalArgumentException(DESCRIPTION + ".");
+		}
+
+		Sort.Direction direction;
+		try {
+			direction = parts.length == 2 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(DESCRIPTION + ".");
+		}
+
+		List<String> withId = new ArrayList<>(properties);
+		withId.add("id");
+		return Sort.by(direction, withId.toArray(String[]::new));
+	}
+}
@@ -0,0 +1,18 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.util.List;
+
+/**
+ * Página obtenida por cursor (keyset), sin total de elementos.
+ *
+ * @param content    Elementos de la página
+ * @param size       Tamaño de página solicitado
+ * @param hasNext    Indica si hay más elementos después de esta página
+ * @param nextCursor Cursor para pedir la siguiente página, null si no hay más
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+	public CursorPage {
+		content = content == null ? List.of() : List.copyOf(content);
+	}
+}
@@ -0,0 +1,64 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Claims del payload JWT que usa el servicio de tareas.
+ *
+ * <p>
+ * Las fechas se conservan en segundos epoch tal como vienen en el token y los
+ * roles que no son texto se descartan al decodificar.
+ * </p>
+ *
+ * @param subject    Usuario (sub)
+ * @param userId     Id del usuario en el servicio auth
+ * @param roles      Roles del token
+ * @param issuedAt   Fecha de emisión en segundos (iat)
+ * @param expiration Fecha de expiración en segundos (exp)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JwtClaims(String subject, Long userId, List<String> roles, Long issuedAt, Long expiration) {
+
+	public static final JwtClaims EMPTY = new JwtClaims(null, null, null, null, null);
+
+	public JwtClaims {
+		roles = roles == null ? List.of() : List.copyOf(roles);
+	}
+
+	@JsonCreator
+	static JwtClaims fromJson(@JsonProperty("sub") String subject,
+			@JsonProperty("userId") Long userId,
+			@JsonProperty("roles") List<Object> roles,
+			@JsonProperty("iat") Long issuedAt,
+			@JsonProperty("exp") Long expiration) {
+		List<String> textRoles = roles == null ? null
+				: roles.stream()
+						.filter(String.class::isInstance)
+						.map(String.class::cast)
+						.toList();
+		return new JwtClaims(subject, userId, textRoles, issuedAt, expiration);
+	}
+
+	/**
+	 * Metodo para obtener la fecha de emisión
+	 *
+	 * @return Date, o null si el token no la incluye
+	 */
+	public Date issuedAtDate() {
+		return issuedAt == null ? null : new Date(issuedAt * 1000);
+	}
+
+	/**
+	 * Metodo para obtener la fecha de expiración
+	 *
+	 * @return Date, o null si el token no la incluye
+	 */
+	public Date expirationDate() {
+		return expiration == null ? null : new Date(expiration * 1000);
+	}
+}
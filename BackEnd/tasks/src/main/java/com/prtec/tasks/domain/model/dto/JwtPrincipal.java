@@ -0,0 +1,46 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Datos del token JWT decodificados una sola vez por solicitud.
+ *
+ * <p>
+ * El filtro de autenticación lo guarda como principal en el contexto de
+ * seguridad para que AuthUtils y los controladores no vuelvan a decodificar el
+ * encabezado Authorization.
+ * </p>
+ *
+ * @param userId     Id del usuario en el servicio auth
+ * @param username   Usuario (subject del token)
+ * @param roles      Roles del token
+ * @param expiration Fecha de expiración del token
+ */
+public record JwtPrincipal(Long userId, String username, List<GrantedAuthority> roles, Date expiration) {
+
+	public JwtPrincipal {
+		roles = roles == null ? List.of() : List.copyOf(roles);
+	}
+
+	/**
+	 * Metodo para validar si el rol está presente, sin distinguir mayúsculas
+	 *
+	 * @param role
+	 * @return boolean
+	 */
+	public boolean hasRole(String role) {
+		return roles.stream().anyMatch(r -> r.getAuthority().equalsIgnoreCase(role));
+	}
+
+	/**
+	 * Metodo para validar si el token expiró
+	 *
+	 * @return boolean
+	 */
+	public boolean isExpired() {
+		return expiration == null || expiration.before(new Date());
+	}
+}
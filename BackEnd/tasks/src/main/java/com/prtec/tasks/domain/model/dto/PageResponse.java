@@ -0,0 +1,47 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Página de resultados para las respuestas del API, sin los metadatos de
+ * pageable y sort que serializa PageImpl.
+ *
+ * <p>
+ * totalElements y totalPages solo se incluyen cuando se consultó el total.
+ * </p>
+ *
+ * @param content       Elementos de la página
+ * @param page          Número de página (desde 0)
+ * @param size          Tamaño de página solicitado
+ * @param hasNext       Indica si hay una página siguiente
+ * @param totalElements Total de elementos, null si no se consultó
+ * @param totalPages    Total de páginas, null si no se consultó
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageResponse<T>(List<T> content, int page, int size, boolean hasNext, Long totalElements,
+		Integer totalPages) {
+
+	public PageResponse {
+		content = content == null ? List.of() : List.copyOf(content);
+	}
+
+	/**
+	 * Crea la respuesta a partir de un Page (con totales) o un Slice (sin ellos).
+	 *
+	 * @param slice resultado de la consulta
+	 * @return PageResponse
+	 */
+	public static <T> PageResponse<T> of(Slice<T> slice) {
+		if (slice instanceof Page<T> page) {
+			return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(),
+					page.getTotalElements(), page.getTotalPages());
+		}
+		return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), null,
+				null);
+	}
+}
@@ -0,0 +1,21 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.util.List;
+
+import com.prtec.tasks.domain.model.entity.Task;
+
+/**
+ * Resultado de pedir varias tareas por id en una sola solicitud.
+ *
+ * @param tasks     Tareas encontradas, en el orden de los ids recibidos
+ * @param notFound  Ids que no existen
+ * @param forbidden Ids de tareas de otro usuario
+ */
+public record TaskBatchGetResponse(List<Task> tasks, List<Long> notFound, List<Long> forbidden) {
+
+	public TaskBatchGetResponse {
+		tasks = tasks == null ? List.of() : List.copyOf(tasks);
+		notFound = notFound == null ? List.of() : List.copyOf(notFound);
+		forbidden = forbidden == null ? List.of() : List.copyOf(forbidden);
+	}
+}
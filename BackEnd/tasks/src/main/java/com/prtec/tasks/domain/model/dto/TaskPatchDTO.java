@@ -0,0 +1,79 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.prtec.tasks.domain.model.entity.Task;
+
+/**
+ * Cambios parciales de una tarea (PATCH). Solo se actualizan los campos
+ * presentes; un campo ausente conserva su valor.
+ *
+ * <p>
+ * description y dueDate admiten null en la tabla, por eso son Optional: ausente
+ * en el JSON llega como null (sin cambio) y un null explícito llega como
+ * Optional.empty() (borra el valor). En title, status y priority, que no
+ * admiten null, un null explícito también conserva el valor.
+ * </p>
+ *
+ * @param title       Título
+ * @param description Descripción; Optional.empty() para borrarla
+ * @param status      Estado
+ * @param priority    Prioridad
+ * @param dueDate     Fecha de vencimiento; Optional.empty() para borrarla
+ */
+public record TaskPatchDTO(String title,
+		@JsonDeserialize(using = NullableField.class) Optional<String> description,
+		Task.TaskStatus status,
+		Task.TaskPriority priority,
+		@JsonDeserialize(using = NullableField.class) Optional<LocalDate> dueDate) {
+
+	public boolean isEmpty() {
+		return title == null && description == null && status == null && priority == null && dueDate == null;
+	}
+
+	/**
+	 * Lee un campo que admite null: ausente queda en null y un null explícito
+	 * queda en Optional.empty(). El módulo Jdk8 de Jackson lee ambos casos como
+	 * Optional.empty() en los records.
+	 */
+	public static class NullableField extends JsonDeserializer<Optional<?>> implements ContextualDeserializer {
+		private final JavaType valueType;
+
+		public NullableField() {
+			this(null);
+		}
+
+		private NullableField(JavaType valueType) {
+			this.valueType = valueType;
+		}
+
+		@Override
+		public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+			return property == null ? this : new NullableField(property.getType().containedTypeOrUnknown(0));
+		}
+
+		@Override
+		public Optional<?> deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+			return Optional.ofNullable(ctxt.readValue(parser, valueType));
+		}
+
+		@Override
+		public Optional<?> getNullValue(DeserializationContext ctxt) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Object getAbsentValue(DeserializationContext ctxt) {
+			return null;
+		}
+	}
+}
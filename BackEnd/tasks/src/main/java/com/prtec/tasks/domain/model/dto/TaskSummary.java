@@ -0,0 +1,40 @@
+package com.prtec.tasks.domain.model.dto;
+
+import java.time.LocalDate;
+
+import com.prtec.tasks.domain.model.entity.Task;
+
+/**
+ * Tarea tal como se muestra en los listados: solo las columnas que pinta la
+ * tabla de tareas, sin la entidad ni el usuario completos.
+ *
+ * @param id          Id de la tarea
+ * @param title       Título
+ * @param description Descripción
+ * @param status      Estado
+ * @param priority    Prioridad
+ * @param dueDate     Fecha de vencimiento
+ * @param userDetails Dueño de la tarea (solo los datos que se muestran)
+ */
+public record TaskSummary(Long id, String title, String description, Task.TaskStatus status,
+		Task.TaskPriority priority, LocalDate dueDate, Owner userDetails) {
+
+	/**
+	 * Constructor usado por las consultas JPQL (SELECT new ...), que no pueden
+	 * construir el dueño anidado.
+	 */
+	public TaskSummary(Long id, String title, String description, Task.TaskStatus status,
+			Task.TaskPriority priority, LocalDate dueDate, String username, String firstName, String lastName) {
+		this(id, title, description, status, priority, dueDate, new Owner(username, firstName, lastName));
+	}
+
+	/**
+	 * Datos del dueño que muestra el listado de administrador.
+	 *
+	 * @param username  Usuario
+	 * @param firstName Nombre
+	 * @param lastName  Apellido
+	 */
+	public record Owner(String username, String firstName, String lastName) {
+	}
+}
@@ -7,47 +7,77 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Data
 @NoArgsConstructor
-@Table(name = "tasks")
+// Índices definidos en db/migration; se declaran aquí como referencia del esquema
+@Table(name = "tasks", indexes = {
+		@Index(name = "idx_tasks_user_status_priority", columnList = "user_id, status, priority"),
+		@Index(name = "idx_tasks_status_priority", columnList = "status, priority"),
+		// Órdenes de los listados (V3__tasks_sort_indexes.sql)
+		@Index(name = "idx_tasks_user_due_date", columnList = "user_id, due_date"),
+		@Index(name = "idx_tasks_user_priority", columnList = "user_id, priority"),
+		@Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at"),
+		@Index(name = "idx_tasks_user_updated_at", columnList = "user_id, updated_at"),
+		@Index(name = "idx_tasks_due_date", columnList = "due_date"),
+		@Index(name = "idx_tasks_priority", columnList = "priority"),
+		@Index(name = "idx_tasks_created_at", columnList = "created_at"),
+		@Index(name = "idx_tasks_updated_at", columnList = "updated_at"),
+		// Orden por id: cursor y TaskSort.DEFAULT (V5__tasks_id_order_indexes.sql)
+		@Index(name = "idx_tasks_user_id", columnList = "user_id, id"),
+		@Index(name = "idx_tasks_status_id", columnList = "status, id")
+})
 public class Task {
 
+	// Ids por bloques (tabla tasks_seq en MySQL, ver V2__tasks_pooled_ids.sql): a
+	// diferencia de IDENTITY permite que Hibernate agrupe los INSERT en lotes
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+	@SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false, length = 255, columnDefinition = "VARCHAR(255) COLLATE utf8mb4_general_ci")
 	private String title;
 
-	@Column(length = 500)
+	// Misma collation que title: ambas columnas forman el índice FULLTEXT
+	@Column(length = 500, columnDefinition = "VARCHAR(500) COLLATE utf8mb4_general_ci")
 	private String description;
 
-	@Enumerated(EnumType.STRING)
+	// Se guardan como códigos TINYINT (V4__tasks_status_priority_codes.sql)
+	@Convert(converter = TaskStatusConverter.class)
 	@Column(nullable = false)
 	private TaskStatus status = TaskStatus.PENDIENTE;
 
-	@Enumerated(EnumType.STRING)
+	@Convert(converter = TaskPriorityConverter.class)
 	@Column(nullable = false)
 	private TaskPriority priority = TaskPriority.MEDIA;
 
 	@Column
 	private LocalDate dueDate;
 
-	@ManyToOne
+	// Los listados usan la proyección TaskSummary; findById lo carga con @EntityGraph
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private UserDetails userDetails;
 
 	@Column(nullable = false, updatable = false)
@@ -58,16 +88,51 @@ public class Task {
 	@UpdateTimestamp
 	private LocalDateTime updatedAt;
 
+	/**
+	 * Estados de una tarea. El código es el valor guardado en la columna status:
+	 * no cambia al reordenar o agregar constantes, a diferencia del ordinal.
+	 */
+	@Getter
+	@RequiredArgsConstructor
 	public enum TaskStatus {
-		PENDIENTE,
-		EN_PROGRESO,
-		COMPLETADA
+		PENDIENTE((byte) 1),
+		EN_PROGRESO((byte) 2),
+		COMPLETADA((byte) 3);
+
+		private final byte code;
+
+		public static TaskStatus fromCode(byte code) {
+			for (TaskStatus status : values()) {
+				if (status.code == code) {
+					return status;
+				}
+			}
+			throw new IllegalArgumentException("Código de estado desconocido: " + code);
+		}
 	}
 
+	/**
+	 * Prioridades de una tarea. El código es el valor guardado en la columna
+	 * priority y sigue la urgencia: ordenar ascendente deja primero las de
+	 * prioridad ALTA.
+	 */
+	@Getter
+	@RequiredArgsConstructor
 	public enum TaskPriority {
-		ALTA,
-		MEDIA,
-		BAJA
+		ALTA((byte) 1),
+		MEDIA((byte) 2),
+		BAJA((byte) 3);
+
+		private final byte code;
+
+		public static TaskPriority fromCode(byte code) {
+			for (TaskPriority priority : values()) {
+				if (priority.code == code) {
+					return priority;
+				}
+			}
+			throw new IllegalArgumentException("Código de prioridad desconocido: " + code);
+		}
 	}
 
 	public Task(String title, String description, TaskStatus status, TaskPriority priority, LocalDate dueDate,
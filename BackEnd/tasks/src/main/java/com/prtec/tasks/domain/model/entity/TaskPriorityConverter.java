@@ -0,0 +1,21 @@
+package com.prtec.tasks.domain.model.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Guarda {@link Task.TaskPriority} como su código de un byte.
+ */
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<Task.TaskPriority, Byte> {
+
+	@Override
+	public Byte convertToDatabaseColumn(Task.TaskPriority priority) {
+		return priority == null ? null : priority.getCode();
+	}
+
+	@Override
+	public Task.TaskPriority convertToEntityAttribute(Byte code) {
+		return code == null ? null : Task.TaskPriority.fromCode(code);
+	}
+}
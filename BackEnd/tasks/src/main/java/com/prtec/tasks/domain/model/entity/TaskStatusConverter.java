@@ -0,0 +1,21 @@
+package com.prtec.tasks.domain.model.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Guarda {@link Task.TaskStatus} como su código de un byte.
+ */
+@Converter
+public class TaskStatusConverter implements AttributeConverter<Task.TaskStatus, Byte> {
+
+	@Override
+	public Byte convertToDatabaseColumn(Task.TaskStatus status) {
+		return status == null ? null : status.getCode();
+	}
+
+	@Override
+	public Task.TaskStatus convertToEntityAttribute(Byte code) {
+		return code == null ? null : Task.TaskStatus.fromCode(code);
+	}
+}
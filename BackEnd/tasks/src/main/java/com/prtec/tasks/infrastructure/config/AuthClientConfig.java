@@ -0,0 +1,124 @@
+package com.prtec.tasks.infrastructure.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import com.prtec.tasks.application.config.AuthClientProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Cliente HTTP para las llamadas al servicio auth: pool de conexiones con
+ * límites por ruta, timeouts de conexión, lectura y espera del pool, tiempo
+ * máximo por intercambio (AuthRequestFactory) y métricas del pool
+ * (httpcomponents.httpclient.pool.*, tag httpclient=auth).
+ *
+ * <p>
+ * También define el circuit breaker "auth". Su estado y los cambios de estado
+ * se publican como resilience4j.circuitbreaker.* y
+ * resilience4j.circuitbreaker.transitions.
+ * </p>
+ */
+@Configuration
+public class AuthClientConfig {
+	public static final String AUTH_CIRCUIT_BREAKER = "auth";
+	private static final Logger logger = LoggerFactory.getLogger(AuthClientConfig.class);
+
+	@Bean
+	public PoolingHttpClientConnectionManager authConnectionManager(AuthClientProperties properties) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(properties.getMaxConnections())
+				.setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+						.setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+						.setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+						.build())
+				.build();
+	}
+
+	@Bean
+	public CloseableHttpClient authHttpClient(PoolingHttpClientConnectionManager authConnectionManager,
+			AuthClientProperties properties) {
+		return HttpClients.custom()
+				.setConnectionManager(authConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+						.setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+						.build())
+				// Sin reintentos: agregan esperas fuera de los timeouts configurados
+				.disableAutomaticRetries()
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+				.build();
+	}
+
+	@Bean
+	public AuthRequestFactory authRequestFactory(CloseableHttpClient authHttpClient,
+			AuthClientProperties properties) {
+		return new AuthRequestFactory(authHttpClient, properties.getTotalTimeout());
+	}
+
+	@Bean
+	public RestTemplate authRestTemplate(AuthRequestFactory authRequestFactory) {
+		return new RestTemplate(authRequestFactory);
+	}
+
+	@Bean
+	public CircuitBreakerRegistry authCircuitBreakerRegistry(AuthClientProperties properties) {
+		AuthClientProperties.CircuitBreaker config = properties.getCircuitBreaker();
+		return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+				.slidingWindowSize(config.getSlidingWindowSize())
+				.minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+				.failureRateThreshold(config.getFailureRateThreshold())
+				.slowCallDurationThreshold(config.getSlowCallDurationThreshold())
+				.slowCallRateThreshold(config.getSlowCallRateThreshold())
+				.waitDurationInOpenState(config.getWaitDurationInOpenState())
+				.permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+				.automaticTransitionFromOpenToHalfOpenEnabled(true)
+				.build());
+	}
+
+	@Bean
+	public CircuitBreaker authCircuitBreaker(CircuitBreakerRegistry authCircuitBreakerRegistry) {
+		CircuitBreaker circuitBreaker = authCircuitBreakerRegistry.circuitBreaker(AUTH_CIRCUIT_BREAKER);
+		circuitBreaker.getEventPublisher().onStateTransition(event -> logger.warn(
+				"Circuit breaker {}: {}", event.getCircuitBreakerName(), event.getStateTransition()));
+		return circuitBreaker;
+	}
+
+	@Bean
+	public MeterBinder authCircuitBreakerMetrics(CircuitBreakerRegistry authCircuitBreakerRegistry) {
+		return registry -> {
+			TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(authCircuitBreakerRegistry).bindTo(registry);
+			authCircuitBreakerRegistry.getAllCircuitBreakers().forEach(circuitBreaker -> circuitBreaker
+					.getEventPublisher()
+					.onStateTransition(event -> registry.counter("resilience4j.circuitbreaker.transitions",
+							"name", event.getCircuitBreakerName(),
+							"from", event.getStateTransition().getFromState().name(),
+							"to", event.getStateTransition().getToState().name())
+							.increment()));
+		};
+	}
+
+	@Bean
+	public MeterBinder authConnectionPoolMetrics(PoolingHttpClientConnectionManager authConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(authConnectionManager, "auth");
+	}
+}
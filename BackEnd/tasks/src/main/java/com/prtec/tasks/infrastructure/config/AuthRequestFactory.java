@@ -0,0 +1,60 @@
+package com.prtec.tasks.infrastructure.config;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Fábrica de solicitudes hacia el servicio auth con un tiempo máximo por
+ * intercambio.
+ *
+ * <p>
+ * Los timeouts del cliente HTTP se aplican a cada etapa por separado, y
+ * readTimeout a cada lectura del socket: un servicio que responde de a pocos
+ * bytes puede retener el hilo indefinidamente. Por eso al crear cada solicitud
+ * se programa su cancel() para cuando se cumpla totalTimeout; cancel() cierra
+ * la conexión y la llamada termina con RestClientException, sin importar en
+ * qué etapa esté (espera del pool, conexión, envío o lectura).
+ * </p>
+ *
+ * <p>
+ * Si el intercambio ya terminó y la conexión volvió al pool, cancel() no tiene
+ * efecto.
+ * </p>
+ */
+public class AuthRequestFactory extends HttpComponentsClientHttpRequestFactory {
+	private final ScheduledThreadPoolExecutor deadlines;
+	private final long totalTimeoutNanos;
+
+	/**
+	 * @param httpClient   Cliente HTTP con el pool de conexiones hacia auth.
+	 * @param totalTimeout Duración máxima de un intercambio completo.
+	 */
+	public AuthRequestFactory(HttpClient httpClient, Duration totalTimeout) {
+		super(httpClient);
+		this.totalTimeoutNanos = totalTimeout.toNanos();
+		this.deadlines = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "auth-request-deadline");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	protected void postProcessHttpRequest(ClassicHttpRequest request) {
+		if (request instanceof HttpUriRequestBase cancellable) {
+			deadlines.schedule(cancellable::cancel, totalTimeoutNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		deadlines.shutdownNow();
+		super.destroy();
+	}
+}
@@ -24,7 +24,7 @@ import jakarta.transaction.Transactional;
  * </p>
  *
  * @author Edgar Andres
- * @version 1.2
+ * @version 1.3
  */
 @Component
 public class DatabaseInitializer implements CommandLineRunner {
@@ -41,6 +41,14 @@ public class DatabaseInitializer implements CommandLineRunner {
 	@Transactional
 	public void run(String... args) {
 		try {
+			// El esquema ya no se recrea en cada arranque: solo se cargan datos en una base vacía
+			Long existingTasks = entityManager.createQuery("SELECT COUNT(t) FROM Task t", Long.class)
+					.getSingleResult();
+			if (existingTasks > 0) {
+				logger.info("La base de datos ya contiene tareas, se omite la carga inicial.");
+				return;
+			}
+
 			// Buscar usuarios en la base de datos
 			UserDetails admin = entityManager.find(UserDetails.class, 1L);
 			if (admin == null) {
@@ -9,12 +9,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.prtec.tasks.application.utils.JwtUtil;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -35,7 +35,8 @@ import jakarta.servlet.http.HttpServletResponse;
  * <ul>
  * <li>Extrae el token JWT del encabezado Authorization.</li>
  * <li>Valida el token utilizando JwtUtil.</li>
- * <li>Carga los roles del usuario desde el token.</li>
+ * <li>Carga los datos y roles del usuario desde el token en un
+ * {@link JwtPrincipal}.</li>
  * <li>Establece la autenticación en el contexto de seguridad de Spring si el
  * token es válido.</li>
  * </ul>
@@ -97,20 +98,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		}
 
 		String token = authHeader.substring(7);
-		String username = jwtUtil.getUsernameFromToken(token);
+		// El token se decodifica una sola vez; el principal queda disponible para
+		// AuthUtils y los controladores durante la solicitud
+		JwtPrincipal principal = jwtUtil.getPrincipalFromToken(token);
+		String username = principal.username();
 
 		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-			if (!jwtUtil.isTokenValid(token, username)) {
+			if (!jwtUtil.isTokenValid(token, principal)) {
 				log.warn("Token inválido para: {}", username);
 				response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 				response.getWriter().write("Token inválido o expirado");
 				return;
 			}
 
-			List<GrantedAuthority> authorities = jwtUtil.getRolesFromToken(token);
-
-			UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, null,
-					authorities);
+			UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(principal, null,
+					principal.roles());
 			SecurityContextHolder.getContext().setAuthentication(authToken);
 		}
 
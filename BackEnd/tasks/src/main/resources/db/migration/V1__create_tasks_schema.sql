@@ -0,0 +1,39 @@
+-- Esquema inicial del servicio de tareas (antes generado con ddl-auto create-drop)
+
+CREATE TABLE user_details (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    first_name VARCHAR(255) COLLATE utf8mb4_general_ci,
+    last_name VARCHAR(255) COLLATE utf8mb4_general_ci,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_details_user_id UNIQUE (user_id),
+    CONSTRAINT uk_user_details_username UNIQUE (username)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) COLLATE utf8mb4_general_ci NOT NULL,
+    description VARCHAR(500) COLLATE utf8mb4_general_ci,
+    status ENUM('PENDIENTE', 'EN_PROGRESO', 'COMPLETADA') NOT NULL,
+    priority ENUM('ALTA', 'MEDIA', 'BAJA') NOT NULL,
+    due_date DATE,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    -- TaskSpecifications.filter con userId (findSummarySlice, findSummaries,
+    -- countMatching) y findByUsername / findSliceByUsername:
+    -- user_id fijo con status y priority opcionales. InnoDB agrega id al final,
+    -- pero queda después de status y priority: solo con ambos fijos las filas
+    -- salen ordenadas por id (el orden por id sin filtros lo sirve
+    -- idx_tasks_user_id de V5). También cubre la llave foránea, así MySQL no
+    -- crea un índice aparte para user_id.
+    INDEX idx_tasks_user_status_priority (user_id, status, priority),
+    -- TaskSpecifications.filter sin userId (admin) con status o priority
+    INDEX idx_tasks_status_priority (status, priority),
+    -- searchIds (MATCH ... AGAINST)
+    FULLTEXT INDEX ft_tasks_title_description (title, description),
+    CONSTRAINT fk_tasks_user_details FOREIGN KEY (user_id) REFERENCES user_details (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,14 @@
+-- Ids de tasks asignados por Hibernate en bloques de 50 (Task.id, tasks_seq) para
+-- que los INSERT se puedan enviar en lotes; con AUTO_INCREMENT cada INSERT debe
+-- ejecutarse solo para leer el id generado.
+--
+-- MySQL no tiene secuencias: Hibernate usa esta tabla con el optimizador pooled,
+-- que toma next_val como el último id del bloque. Por eso arranca en MAX(id) + 50
+-- y el primer bloque empieza justo después de las tareas existentes.
+CREATE TABLE tasks_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO tasks_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tasks;
+
+ALTER TABLE tasks MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,19 @@
+-- Índices para los órdenes permitidos en los listados (TaskSort). Cada orden
+-- termina en id y InnoDB agrega id al final de cada índice secundario, así que
+-- ORDER BY <columna>, id se lee en el orden del índice, sin filesort, y el LIMIT
+-- se detiene en la última fila de la página.
+--
+-- El orden por status usa (status, priority, id), que ya cubren
+-- idx_tasks_user_status_priority e idx_tasks_status_priority.
+
+-- Listados del usuario: user_id fijo
+CREATE INDEX idx_tasks_user_due_date ON tasks (user_id, due_date);
+CREATE INDEX idx_tasks_user_priority ON tasks (user_id, priority);
+CREATE INDEX idx_tasks_user_created_at ON tasks (user_id, created_at);
+CREATE INDEX idx_tasks_user_updated_at ON tasks (user_id, updated_at);
+
+-- Listados del admin: todas las tareas
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+CREATE INDEX idx_tasks_priority ON tasks (priority);
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
@@ -0,0 +1,30 @@
+-- status y priority pasan de ENUM a códigos TINYINT (Task.TaskStatus.code y
+-- Task.TaskPriority.code, ver TaskStatusConverter y TaskPriorityConverter).
+-- Los códigos no dependen del orden de declaración del ENUM ni del ordinal de
+-- Java, agregar un valor ya no exige un ALTER TABLE y las prioridades ordenan
+-- por urgencia (ALTA = 1, MEDIA = 2, BAJA = 3).
+--
+-- El ENUM se pasa primero a VARCHAR para traducir cada nombre a su código; los
+-- índices que incluyen estas columnas se reconstruyen con el tipo nuevo.
+ALTER TABLE tasks
+    MODIFY status VARCHAR(20) NOT NULL,
+    MODIFY priority VARCHAR(10) NOT NULL;
+
+UPDATE tasks SET
+    status = CASE status
+        WHEN 'PENDIENTE' THEN '1'
+        WHEN 'EN_PROGRESO' THEN '2'
+        WHEN 'COMPLETADA' THEN '3'
+    END,
+    priority = CASE priority
+        WHEN 'ALTA' THEN '1'
+        WHEN 'MEDIA' THEN '2'
+        WHEN 'BAJA' THEN '3'
+    END;
+
+-- Los CHECK reemplazan la validación que hacía el ENUM
+ALTER TABLE tasks
+    MODIFY status TINYINT NOT NULL,
+    MODIFY priority TINYINT NOT NULL,
+    ADD CONSTRAINT chk_tasks_status CHECK (status BETWEEN 1 AND 3),
+    ADD CONSTRAINT chk_tasks_priority CHECK (priority BETWEEN 1 AND 3);
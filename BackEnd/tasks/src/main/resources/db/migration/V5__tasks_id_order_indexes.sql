@@ -0,0 +1,15 @@
+-- Índices para el orden por id: la paginación por cursor (scrollTasksByFilters,
+-- WHERE ... AND id > ? ORDER BY id LIMIT n + 1) y los listados con el orden por
+-- defecto (TaskSort.DEFAULT). idx_tasks_user_status_priority deja el id después
+-- de status y priority, así que con solo user_id fijo las filas salen ordenadas
+-- por status y MySQL tenía que hacer filesort de todas las tareas del usuario.
+--
+-- Con (user_id, id) y (status, id) el rango id > ? se lee en el orden del índice
+-- y el LIMIT se detiene en la última fila de la página. Con status y priority
+-- fijos ya sirve (status, priority, id), y con solo priority (priority, id).
+
+-- Listados y scroll del usuario sin filtros de status o priority
+CREATE INDEX idx_tasks_user_id ON tasks (user_id, id);
+
+-- Listados y scroll del admin filtrados solo por status
+CREATE INDEX idx_tasks_status_id ON tasks (status, id);
@@ -0,0 +1,108 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.prtec.tasks.application.config.AuthClientProperties;
+import com.prtec.tasks.infrastructure.config.AuthClientConfig;
+import com.prtec.tasks.infrastructure.config.AuthRequestFactory;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthClientConfigTest {
+	private final AuthClientConfig config = new AuthClientConfig();
+	private AuthClientProperties properties;
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AuthClientProperties();
+		properties.setMaxConnections(10);
+		properties.setMaxConnectionsPerRoute(4);
+		properties.setReadTimeout(Duration.ofMillis(500));
+		connectionManager = config.authConnectionManager(properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionManager.close();
+	}
+
+	@Test
+	void testConnectionManagerLimits() {
+		assertEquals(10, connectionManager.getMaxTotal());
+		assertEquals(4, connectionManager.getDefaultMaxPerRoute());
+	}
+
+	@Test
+	void testRestTemplateUsesPooledClient() throws Exception {
+		try (CloseableHttpClient httpClient = config.authHttpClient(connectionManager, properties)) {
+			RestTemplate restTemplate = config.authRestTemplate(config.authRequestFactory(httpClient, properties));
+
+			assertInstanceOf(AuthRequestFactory.class, restTemplate.getRequestFactory());
+			assertSame(httpClient,
+					((HttpComponentsClientHttpRequestFactory) restTemplate.getRequestFactory()).getHttpClient());
+		}
+	}
+
+	@Test
+	void testTotalTimeoutCancelsSlowResponse() throws Exception {
+		// Cada byte llega antes del readTimeout, así que solo totalTimeout corta
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/api/verify", exchange -> {
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				for (int i = 0; i < 40; i++) {
+					out.write(' ');
+					out.flush();
+					Thread.sleep(100);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (IOException e) {
+				// El cliente cerró la conexión
+			}
+		});
+		server.start();
+		properties.setTotalTimeout(Duration.ofMillis(300));
+
+		try (CloseableHttpClient httpClient = config.authHttpClient(connectionManager, properties)) {
+			AuthRequestFactory requestFactory = config.authRequestFactory(httpClient, properties);
+			RestTemplate restTemplate = config.authRestTemplate(requestFactory);
+			String url = "http://localhost:" + server.getAddress().getPort() + "/api/verify";
+
+			long start = System.nanoTime();
+			assertThrows(RestClientException.class, () -> restTemplate.getForObject(url, String.class));
+			assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+			requestFactory.destroy();
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void testPoolMetrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		config.authConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+		assertEquals(10.0, registry.get("httpcomponents.httpclient.pool.total.max")
+				.tag("httpclient", "auth").gauge().value());
+		assertEquals(0.0, registry.get("httpcomponents.httpclient.pool.total.pending").gauge().value());
+		assertEquals(0.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+				.tag("state", "leased").gauge().value());
+	}
+}
@@ -8,10 +8,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.prtec.tasks.application.exceptions.TokenException;
 import com.prtec.tasks.application.utils.AuthUtils;
 import com.prtec.tasks.application.utils.JwtUtil;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
 
 import java.util.Arrays;
 import java.util.List;
@@ -81,7 +85,7 @@ class AuthUtilsTest {
 
 		GrantedAuthority authority = () -> "admin";
 		List<GrantedAuthority> roles = Arrays.asList(authority);
-		when(jwtUtil.getRolesFromToken(anyString())).thenReturn(roles);
+		when(jwtUtil.getPrincipalFromToken(anyString())).thenReturn(new JwtPrincipal(1L, "admin", roles, null));
 
 		boolean result = authUtils.isAdminUser(authHeader);
 
@@ -94,7 +98,7 @@ class AuthUtilsTest {
 
 		GrantedAuthority authority = () -> "user";
 		List<GrantedAuthority> roles = Arrays.asList(authority);
-		when(jwtUtil.getRolesFromToken(anyString())).thenReturn(roles);
+		when(jwtUtil.getPrincipalFromToken(anyString())).thenReturn(new JwtPrincipal(2L, "user", roles, null));
 
 		boolean result = authUtils.isAdminUser(authHeader);
 
@@ -108,7 +112,7 @@ class AuthUtilsTest {
 
 		GrantedAuthority authority = () -> "admin";
 		List<GrantedAuthority> roles = Arrays.asList(authority);
-		when(jwtUtil.getRolesFromToken(anyString())).thenReturn(roles);
+		when(jwtUtil.getPrincipalFromToken(anyString())).thenReturn(new JwtPrincipal(1L, "admin", roles, null));
 
 		boolean result = authUtils.validateUserRole(authHeader, role);
 
@@ -122,10 +126,48 @@ class AuthUtilsTest {
 
 		GrantedAuthority authority = () -> "user";
 		List<GrantedAuthority> roles = Arrays.asList(authority);
-		when(jwtUtil.getRolesFromToken(anyString())).thenReturn(roles);
+		when(jwtUtil.getPrincipalFromToken(anyString())).thenReturn(new JwtPrincipal(2L, "user", roles, null));
 
 		boolean result = authUtils.validateUserRole(authHeader, role);
 
 		assertFalse(result);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testValidateUserRole_InvalidHeader() {
+		assertThrows(TokenException.class, () -> authUtils.validateUserRole("invalidToken", "admin"));
+		verify(jwtUtil, never()).getPrincipalFromToken(anyString());
+	}
+
+	@Test
+	void testGetPrincipal_UsesSecurityContext() {
+		JwtPrincipal principal = new JwtPrincipal(1L, "admin", List.of(() -> "admin"), null);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.roles()));
+		try {
+			assertSame(principal, authUtils.getPrincipal("Bearer validToken"));
+			assertTrue(authUtils.isAdminUser("Bearer validToken"));
+			verify(jwtUtil, never()).getPrincipalFromToken(anyString());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	@Test
+	void testGetTaskOwnerFilter_UsesPrincipalUserId() {
+		when(jwtUtil.getPrincipalFromToken("validToken"))
+				.thenReturn(new JwtPrincipal(2L, "user", List.of(() -> "user"), null));
+
+		assertEquals(2L, authUtils.getTaskOwnerFilter(authUtils.getPrincipal("Bearer validToken")));
+		verify(jwtUtil, times(1)).getPrincipalFromToken("validToken");
+	}
+
+	@Test
+	void testGetTaskOwnerFilter() {
+		assertEquals(2L, authUtils.getTaskOwnerFilter(new JwtPrincipal(2L, "user", List.of(() -> "user"), null)));
+		assertNull(authUtils.getTaskOwnerFilter(new JwtPrincipal(1L, "admin", List.of(() -> "admin"), null)));
+		assertThrows(TokenException.class, () -> authUtils.getTaskOwnerFilter(null));
+		assertThrows(TokenException.class,
+				() -> authUtils.getTaskOwnerFilter(new JwtPrincipal(null, "user", List.of(() -> "user"), null)));
+	}
+}
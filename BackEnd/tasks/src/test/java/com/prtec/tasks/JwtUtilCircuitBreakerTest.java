@@ -0,0 +1,207 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.prtec.tasks.application.cache.TokenVerificationCoalescer;
+import com.prtec.tasks.application.cache.VerifiedTokenCache;
+import com.prtec.tasks.application.config.AuthClientProperties;
+import com.prtec.tasks.application.config.JwtProperties;
+import com.prtec.tasks.application.utils.JwtUtil;
+import com.prtec.tasks.infrastructure.config.AuthClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtUtilCircuitBreakerTest {
+	private static final String JWT_SECRET = "misuperarchirencontrahipermegaextremaclavee";
+	private static final String OTHER_JWT_SECRET = "otraclavecompletamentedistintaparafirmartokens";
+	private static final String VALID_RESPONSE = "{\"status\":\"SUCCESS\",\"message\":\"Token válido\",\"data\":{\"valid\":true}}";
+
+	private final AuthClientConfig config = new AuthClientConfig();
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger status = new AtomicInteger(200);
+	private final AtomicLong delayMillis = new AtomicLong();
+
+	private HttpServer authServer;
+	private AuthClientProperties clientProperties;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		authServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		authServer.createContext("/api/verify", this::handleVerify);
+		authServer.start();
+
+		clientProperties = new AuthClientProperties();
+		clientProperties.setReadTimeout(Duration.ofSeconds(2));
+		AuthClientProperties.CircuitBreaker breaker = clientProperties.getCircuitBreaker();
+		breaker.setSlidingWindowSize(4);
+		breaker.setMinimumNumberOfCalls(4);
+		breaker.setSlowCallDurationThreshold(Duration.ofMillis(200));
+		breaker.setWaitDurationInOpenState(Duration.ofMillis(300));
+		breaker.setPermittedCallsInHalfOpenState(1);
+
+		connectionManager = config.authConnectionManager(clientProperties);
+		httpClient = config.authHttpClient(connectionManager, clientProperties);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		httpClient.close();
+		connectionManager.close();
+		authServer.stop(0);
+	}
+
+	@Test
+	void testOpensOnErrorsAndFallsBackToLocalSignature() {
+		CircuitBreaker circuitBreaker = circuitBreaker();
+		JwtUtil jwtUtil = remoteJwtUtil(JWT_SECRET, JwtProperties.UnavailableFallback.LOCAL, circuitBreaker);
+		status.set(503);
+
+		for (int i = 0; i < 4; i++) {
+			String token = signToken(OTHER_JWT_SECRET, "user" + i);
+			assertFalse(jwtUtil.isTokenValid(token, "user" + i));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertEquals(4, requests.get());
+
+		// Abierto: no se consulta al servicio auth y se valida la firma localmente
+		assertTrue(jwtUtil.isTokenValid(signToken(JWT_SECRET, "testUser"), "testUser"));
+		assertFalse(jwtUtil.isTokenValid(signToken(OTHER_JWT_SECRET, "testUser"), "testUser"));
+		assertEquals(4, requests.get());
+	}
+
+	@Test
+	void testCacheFallbackRejectsUnknownTokensWhileOpen() {
+		CircuitBreaker circuitBreaker = circuitBreaker();
+		JwtUtil jwtUtil = remoteJwtUtil(JWT_SECRET, JwtProperties.UnavailableFallback.CACHE, circuitBreaker);
+
+		String verifiedToken = signToken(JWT_SECRET, "verified");
+		assertTrue(jwtUtil.isTokenValid(verifiedToken, "verified"));
+
+		circuitBreaker.transitionToOpenState();
+
+		assertTrue(jwtUtil.isTokenValid(verifiedToken, "verified"));
+		assertFalse(jwtUtil.isTokenValid(signToken(JWT_SECRET, "testUser"), "testUser"));
+		assertEquals(1, requests.get());
+	}
+
+	@Test
+	void testOpensOnSlowCallsAndClosesWhenAuthRecovers() throws InterruptedException {
+		CircuitBreaker circuitBreaker = circuitBreaker();
+		JwtUtil jwtUtil = remoteJwtUtil(null, JwtProperties.UnavailableFallback.LOCAL, circuitBreaker);
+		delayMillis.set(300);
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue(jwtUtil.isTokenValid(signToken(OTHER_JWT_SECRET, "slow" + i), "slow" + i));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		// Sin llave local, mientras está abierto se rechazan los tokens no verificados
+		assertFalse(jwtUtil.isTokenValid(signToken(OTHER_JWT_SECRET, "testUser"), "testUser"));
+
+		delayMillis.set(0);
+		Thread.sleep(400);
+		assertTrue(jwtUtil.isTokenValid(signToken(OTHER_JWT_SECRET, "testUser"), "testUser"));
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	void testRejectedTokensDoNotOpenTheBreaker() {
+		CircuitBreaker circuitBreaker = circuitBreaker();
+		JwtUtil jwtUtil = remoteJwtUtil(null, JwtProperties.UnavailableFallback.LOCAL, circuitBreaker);
+		status.set(401);
+
+		for (int i = 0; i < 6; i++) {
+			assertFalse(jwtUtil.isTokenValid(signToken(OTHER_JWT_SECRET, "user" + i), "user" + i));
+		}
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertEquals(6, requests.get());
+	}
+
+	@Test
+	void testStateTransitionsAreCounted() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		var circuitBreakerRegistry = config.authCircuitBreakerRegistry(clientProperties);
+		CircuitBreaker circuitBreaker = config.authCircuitBreaker(circuitBreakerRegistry);
+		config.authCircuitBreakerMetrics(circuitBreakerRegistry).bindTo(registry);
+
+		circuitBreaker.transitionToOpenState();
+
+		assertEquals(1.0, registry.get("resilience4j.circuitbreaker.transitions")
+				.tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+		assertEquals(1.0, registry.get("resilience4j.circuitbreaker.state")
+				.tag("name", AuthClientConfig.AUTH_CIRCUIT_BREAKER).tag("state", "open").gauge().value());
+	}
+
+	private void handleVerify(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		try {
+			Thread.sleep(delayMillis.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		byte[] body = (status.get() == 200 ? VALID_RESPONSE : "{\"status\":\"ERROR\"}")
+				.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status.get(), body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private CircuitBreaker circuitBreaker() {
+		return config.authCircuitBreaker(config.authCircuitBreakerRegistry(clientProperties));
+	}
+
+	private JwtUtil remoteJwtUtil(String secret, JwtProperties.UnavailableFallback fallback,
+			CircuitBreaker circuitBreaker) {
+		JwtProperties properties = new JwtProperties();
+		properties.setVerificationMode(JwtProperties.VerificationMode.REMOTE);
+		properties.setSecret(secret);
+		properties.setUnavailableFallback(fallback);
+
+		JwtUtil jwtUtil = new JwtUtil(properties, new VerifiedTokenCache(properties), new TokenVerificationCoalescer(),
+				config.authRestTemplate(config.authRequestFactory(httpClient, clientProperties)), circuitBreaker);
+		ReflectionTestUtils.setField(jwtUtil, "authServiceUrl",
+				"http://localhost:" + authServer.getAddress().getPort());
+		return jwtUtil;
+	}
+
+	private static String signToken(String secret, String subject) {
+		long now = System.currentTimeMillis();
+		return Jwts.builder()
+				.subject(subject)
+				.claim("userId", 2)
+				.claim("roles", List.of("USER"))
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + 60_000))
+				.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), Jwts.SIG.HS256)
+				.compact();
+	}
+}
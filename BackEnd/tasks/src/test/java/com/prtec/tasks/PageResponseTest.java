@@ -0,0 +1,55 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prtec.tasks.domain.model.dto.PageResponse;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+
+class PageResponseTest {
+	private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void testOfPageIncludesTotals() throws Exception {
+		PageResponse<TaskSummary> response = PageResponse
+				.of(new PageImpl<>(List.of(summary(1L), summary(2L)), PageRequest.of(1, 2), 7));
+
+		JsonNode json = mapper.valueToTree(response);
+
+		assertEquals(1, json.get("page").asInt());
+		assertEquals(2, json.get("size").asInt());
+		assertTrue(json.get("hasNext").asBoolean());
+		assertEquals(7, json.get("totalElements").asLong());
+		assertEquals(4, json.get("totalPages").asInt());
+		assertFalse(json.has("pageable"));
+		assertFalse(json.has("sort"));
+		assertEquals("user1", json.at("/content/0/userDetails/username").asText());
+	}
+
+	@Test
+	void testOfSliceOmitsTotals() throws Exception {
+		PageResponse<TaskSummary> response = PageResponse
+				.of(new SliceImpl<>(List.of(summary(1L)), PageRequest.of(0, 10), false));
+
+		JsonNode json = mapper.valueToTree(response);
+
+		assertFalse(json.get("hasNext").asBoolean());
+		assertFalse(json.has("totalElements"));
+		assertFalse(json.has("totalPages"));
+		assertEquals(1, json.get("content").size());
+	}
+
+	private static TaskSummary summary(Long id) {
+		return new TaskSummary(id, "Tarea " + id, null, Task.TaskStatus.PENDIENTE, Task.TaskPriority.MEDIA, null,
+				"user1", "Nombre", "Apellido");
+	}
+}
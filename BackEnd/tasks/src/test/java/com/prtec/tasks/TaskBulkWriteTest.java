@@ -0,0 +1,147 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.prtec.tasks.adapter.out.repository.ITaskRepository;
+import com.prtec.tasks.application.exceptions.TaskNotFoundException;
+import com.prtec.tasks.application.service.TaskService;
+import com.prtec.tasks.application.utils.TaskExportWriter;
+import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:tasks-bulk;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskService.class)
+class TaskBulkWriteTest {
+	private static final int TASKS = 10_000;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private ITaskRepository taskRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UserDetails owner;
+	private UserDetails other;
+
+	@BeforeEach
+	void setUp() {
+		owner = newUser(1L, "user1");
+		other = newUser(2L, "user2");
+		entityManager.flush();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void testCreateTasksInBatches() {
+		List<Long> ids = taskService.createTasks(newTasks(TASKS), owner);
+
+		assertEquals(TASKS, ids.size());
+		assertEquals(TASKS, taskRepository.count());
+		// Un INSERT por lote de 50 y un incremento de tasks_seq por bloque de 50 ids,
+		// en lugar de un INSERT por tarea
+		assertTrue(statistics.getPrepareStatementCount() < TASKS / 10,
+				"sentencias preparadas: " + statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void testUpdateAndDeleteTasksInBatches() {
+		List<Long> ids = taskService.createTasks(newTasks(1_000), owner);
+		statistics.clear();
+
+		List<Task> changes = new ArrayList<>();
+		for (Long id : ids) {
+			Task change = new Task();
+			change.setId(id);
+			change.setTitle("Actualizada " + id);
+			change.setStatus(Task.TaskStatus.COMPLETADA);
+			change.setPriority(Task.TaskPriority.BAJA);
+			changes.add(change);
+		}
+		assertEquals(ids.size(), taskService.updateTasks(changes, owner.getId()));
+		// Dos SELECT ... IN (bloques de 500) y los UPDATE en lotes de 50
+		assertTrue(statistics.getPrepareStatementCount() < 100,
+				"sentencias preparadas: " + statistics.getPrepareStatementCount());
+		assertEquals("Actualizada " + ids.get(0), taskRepository.findById(ids.get(0)).orElseThrow().getTitle());
+
+		assertThrows(TaskNotFoundException.class, () -> taskService.deleteTasks(ids, other.getId()));
+		assertEquals(ids.size(), taskService.deleteTasks(ids, owner.getId()));
+		assertEquals(0, taskRepository.count());
+	}
+
+	@Test
+	void testExportStreamsProjections() throws IOException {
+		taskService.createTasks(newTasks(TASKS / 2), owner);
+		taskService.createTasks(newTasks(10), other);
+		statistics.clear();
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		long exported = taskService.exportTasks(owner.getId(), null, null, null, TaskExportWriter.Format.NDJSON,
+				ndjson);
+
+		// Una sola consulta y ninguna entidad en el contexto de persistencia
+		assertEquals(TASKS / 2, exported);
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+		String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(TASKS / 2, lines.length);
+		assertTrue(lines[0].startsWith("{\"id\":"), lines[0]);
+		assertTrue(lines[0].contains("\"username\":\"user1\""), lines[0]);
+
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		assertEquals(TASKS / 2 + 10, taskService.exportTasks(null, null, "pendiente", null,
+				TaskExportWriter.Format.CSV, csv));
+		assertEquals(TASKS / 2 + 11, csv.toString(StandardCharsets.UTF_8).split("\r\n").length);
+	}
+
+	private UserDetails newUser(Long userId, String username) {
+		UserDetails user = new UserDetails();
+		user.setUserId(userId);
+		user.setUsername(username);
+		return entityManager.persist(user);
+	}
+
+	private static List<Task> newTasks(int count) {
+		List<Task> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Task task = new Task();
+			task.setTitle("Tarea " + i);
+			tasks.add(task);
+		}
+		return tasks;
+	}
+}
@@ -1,10 +1,13 @@
 package com.prtec.tasks;
 
 import com.prtec.tasks.adapter.in.controller.TaskController;
+import com.prtec.tasks.application.exceptions.TokenException;
 import com.prtec.tasks.application.service.TaskService;
 import com.prtec.tasks.application.service.UserDetailsService;
 import com.prtec.tasks.application.utils.AuthUtils;
 import com.prtec.tasks.application.utils.JwtUtil;
+import com.prtec.tasks.domain.model.dto.JwtPrincipal;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
 import com.prtec.tasks.domain.model.entity.Task;
 import com.prtec.tasks.domain.model.entity.UserDetails;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -78,8 +82,8 @@ class TaskControllerTest {
 		userDetails.setUsername("testuser");
 		task.setUserDetails(userDetails);
 
-		doReturn(userDetails.getId()).when(jwtUtil).getUserIdFromToken(anyString());
-		doReturn(userDetails.getUsername()).when(jwtUtil).getUsernameFromToken(anyString());
+		doReturn(new JwtPrincipal(userDetails.getId(), userDetails.getUsername(), null, null))
+				.when(authUtils).getPrincipal(anyString());
 		when(userDetailsService.findOrCreateUser(anyLong(), anyString())).thenReturn(userDetails);
 		when(taskService.createTask(any())).thenReturn(task);
 
@@ -95,12 +99,11 @@ class TaskControllerTest {
 
 	@Test
 	void testGetAllTasksForUser_Success() throws Exception {
-		Task task = new Task();
-		task.setTitle("Task 1");
+		TaskSummary task = summary("Task 1");
 
 		Pageable pageable = PageRequest.of(0, 10);
-		doReturn(true).when(authUtils).hasRole(anyString(), anyString());
-		doReturn("testuser").when(jwtUtil).getUsernameFromToken(anyString());
+		doReturn(new JwtPrincipal(3L, "testuser", List.of(new SimpleGrantedAuthority("USER")), null))
+				.when(authUtils).getPrincipal(anyString());
 		when(taskService.getTasksByUser(anyString(), any()))
 				.thenReturn(new PageImpl<>(new ArrayList<>(List.of(task)), pageable, 1));
 
@@ -111,7 +114,9 @@ class TaskControllerTest {
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.status").value("SUCCESS"))
 				.andExpect(jsonPath("$.message").value("OK"))
-				.andExpect(jsonPath("$.data.content[0].title").value("Task 1"));
+				.andExpect(jsonPath("$.data.content[0].title").value("Task 1"))
+				.andExpect(jsonPath("$.data.totalPages").value(1))
+				.andExpect(jsonPath("$.data.pageable").doesNotExist());
 	}
 
 	@Test
@@ -147,13 +152,9 @@ class TaskControllerTest {
 		task.setTitle("Task 1");
 		task.setDescription("Updated task description");
 
-		doReturn(true).when(authUtils)
-				.isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class));
+		doReturn(3L).when(authUtils).getTaskOwnerFilter(any());
 
-		doReturn(List.of(new SimpleGrantedAuthority("USER"))).when(jwtUtil)
-				.getRolesFromToken(STR_VALID_TOKEN);
-
-		when(taskService.updateTask(eq(1L), any(Task.class))).thenReturn(task);
+		when(taskService.updateTask(eq(1L), eq(3L), any(Task.class))).thenReturn(Optional.of(task));
 
 		mockMvc.perform(put("/api/tasks/{id}", 1L)
 				.header("Authorization", STR_VALID_TOKEN)
@@ -173,8 +174,9 @@ class TaskControllerTest {
 
 		String authHeader = STR_INVALID_TOKEN;
 
-		doReturn(false).when(authUtils)
-				.isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), anyBoolean());
+		doReturn(3L).when(authUtils).getTaskOwnerFilter(any());
+		when(taskService.updateTask(eq(1L), eq(3L), any(Task.class))).thenReturn(Optional.empty());
+		when(taskService.existsTask(1L)).thenReturn(true);
 
 		mockMvc.perform(put("/api/tasks/{id}", 1L)
 				.header("Authorization", authHeader)
@@ -189,10 +191,9 @@ class TaskControllerTest {
 	void testDeleteTask_Success() throws Exception {
 		String authHeader = STR_VALID_TOKEN;
 
-		doReturn(true).when(authUtils)
-				.isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), eq(true));
+		doReturn(3L).when(authUtils).getTaskOwnerFilter(any());
 
-		when(taskService.deleteTask(anyLong())).thenReturn(true);
+		when(taskService.deleteTask(1L, 3L)).thenReturn(true);
 
 		mockMvc.perform(delete("/api/tasks/{id}", 1L)
 				.header("Authorization", authHeader))
@@ -205,8 +206,7 @@ class TaskControllerTest {
 	void testDeleteTask_Unauthorized() throws Exception {
 		String authHeader = STR_INVALID_TOKEN;
 
-		doReturn(false).when(authUtils)
-				.isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), eq(true));
+		doThrow(new TokenException("Token no autorizado.")).when(authUtils).getTaskOwnerFilter(any());
 
 		mockMvc.perform(delete("/api/tasks/{id}", 1L)
 				.header("Authorization", authHeader))
@@ -219,9 +219,9 @@ class TaskControllerTest {
 	void testDeleteTask_NotFound() throws Exception {
 		String authHeader = STR_VALID_TOKEN;
 
-		doReturn(true)
-				.when(authUtils).isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), eq(true));
-		when(taskService.deleteTask(anyLong())).thenReturn(false);
+		doReturn(3L).when(authUtils).getTaskOwnerFilter(any());
+		when(taskService.deleteTask(1L, 3L)).thenReturn(false);
+		when(taskService.existsTask(1L)).thenReturn(false);
 
 		mockMvc.perform(delete("/api/tasks/{id}", 1L)
 				.header("Authorization", authHeader))
@@ -232,8 +232,7 @@ class TaskControllerTest {
 
 	@Test
 	void testGetAllTasksForAdmin_Success() throws Exception {
-		Task task = new Task();
-		task.setTitle("Task 1");
+		TaskSummary task = summary("Task 1");
 
 		String authHeader = STR_VALID_TOKEN;
 
@@ -278,10 +277,9 @@ class TaskControllerTest {
 		task.setId(taskId);
 		task.setTitle("Test Task");
 
-		doReturn(true)
-				.when(authUtils).isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), eq(true));
+		doReturn(null).when(authUtils).getTaskOwnerFilter(any());
 
-		when(taskService.getTaskById(anyLong())).thenReturn(task);
+		when(taskService.findTask(taskId, null)).thenReturn(Optional.of(task));
 
 		mockMvc.perform(get("/api/tasks/{id}", taskId)
 				.header("Authorization", authHeader))
@@ -297,8 +295,9 @@ class TaskControllerTest {
 		Long taskId = 1L;
 		String authHeader = STR_INVALID_TOKEN;
 
-		doReturn(false)
-				.when(authUtils).isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), eq(true));
+		doReturn(3L).when(authUtils).getTaskOwnerFilter(any());
+		when(taskService.findTask(taskId, 3L)).thenReturn(Optional.empty());
+		when(taskService.existsTask(taskId)).thenReturn(true);
 
 		mockMvc.perform(get("/api/tasks/{id}", taskId)
 				.header("Authorization", authHeader))
@@ -312,10 +311,9 @@ class TaskControllerTest {
 		Long taskId = 1L;
 		String authHeader = STR_VALID_TOKEN;
 
-		doReturn(true)
-				.when(authUtils).isTaskOwnedByUser(anyString(), anyLong(), any(TaskService.class), eq(true));
-
-		when(taskService.getTaskById(anyLong())).thenReturn(null);
+		doReturn(3L).when(authUtils).getTaskOwnerFilter(any());
+		when(taskService.findTask(taskId, 3L)).thenReturn(Optional.empty());
+		when(taskService.existsTask(taskId)).thenReturn(false);
 
 		mockMvc.perform(get("/api/tasks/{id}", taskId)
 				.header("Authorization", authHeader))
@@ -333,11 +331,10 @@ class TaskControllerTest {
 		int page = 0;
 		int size = 10;
 
-		Task task = new Task();
-		task.setTitle("Test Task");
+		TaskSummary task = summary("Test Task");
 
-		doReturn(1L).when(jwtUtil).getUserIdFromToken(anyString());
-		doReturn(ResponseEntity.ok("token")).when(authUtils).getTokenFromAuthHeader(anyString());
+		doReturn(new JwtPrincipal(1L, "testuser", List.of(new SimpleGrantedAuthority("USER")), null))
+				.when(authUtils).getPrincipal(anyString());
 
 		Pageable pageable = PageRequest.of(0, 10);
 		when(taskService.getTasksByFilters(anyLong(), eq(title), eq(status), eq(priority), any(PageRequest.class)))
@@ -374,4 +371,9 @@ class TaskControllerTest {
 				.andExpect(jsonPath("$.status").value("ERROR"))
 				.andExpect(jsonPath("$.message").value("Token no autorizado."));
 	}
+
+	private static TaskSummary summary(String title) {
+		return new TaskSummary(1L, title, null, Task.TaskStatus.PENDIENTE, Task.TaskPriority.MEDIA, null, "testuser",
+				null, null);
+	}
 }
\ No newline at end of file
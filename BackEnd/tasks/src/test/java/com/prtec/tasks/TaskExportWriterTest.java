@@ -0,0 +1,75 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.prtec.tasks.application.utils.TaskExportWriter;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+
+class TaskExportWriterTest {
+	private static final TaskSummary TASK = new TaskSummary(1L, "Título, con \"comillas\"", "Línea 1\nLínea 2",
+			Task.TaskStatus.PENDIENTE, Task.TaskPriority.ALTA, LocalDate.of(2025, 4, 1), "user1", "Ana", null);
+
+	@Test
+	void testNdjson() throws IOException {
+		String output = export(TaskExportWriter.Format.NDJSON, TASK, TASK);
+
+		String line = "{\"id\":1,\"title\":\"Título, con \\\"comillas\\\"\",\"description\":\"Línea 1\\nLínea 2\","
+				+ "\"status\":\"PENDIENTE\",\"priority\":\"ALTA\",\"dueDate\":\"2025-04-01\","
+				+ "\"userDetails\":{\"username\":\"user1\",\"firstName\":\"Ana\",\"lastName\":null}}";
+		assertEquals(line + "\n" + line + "\n", output);
+	}
+
+	@Test
+	void testCsvEscapesFields() throws IOException {
+		String output = export(TaskExportWriter.Format.CSV, TASK);
+
+		assertEquals("id,title,description,status,priority,dueDate,username,firstName,lastName\r\n"
+				+ "1,\"Título, con \"\"comillas\"\"\",\"Línea 1\nLínea 2\",PENDIENTE,ALTA,2025-04-01,user1,Ana,\r\n",
+				output);
+	}
+
+	@Test
+	void testCsvNeutralizesFormulas() throws IOException {
+		TaskSummary formulas = new TaskSummary(2L, "=HYPERLINK(\"http://x\")", "+1", Task.TaskStatus.PENDIENTE,
+				Task.TaskPriority.BAJA, null, "@user", "-2", "\tTab");
+
+		String output = export(TaskExportWriter.Format.CSV, formulas);
+
+		assertEquals("id,title,description,status,priority,dueDate,username,firstName,lastName\r\n"
+				+ "2,\"'=HYPERLINK(\"\"http://x\"\")\",\"'+1\",PENDIENTE,BAJA,,\"'@user\",\"'-2\",\"'\tTab\"\r\n",
+				output);
+	}
+
+	@Test
+	void testEmptyExport() throws IOException {
+		assertEquals("", export(TaskExportWriter.Format.NDJSON));
+		assertEquals("id,title,description,status,priority,dueDate,username,firstName,lastName\r\n",
+				export(TaskExportWriter.Format.CSV));
+	}
+
+	@Test
+	void testFormatFrom() {
+		assertEquals(TaskExportWriter.Format.CSV, TaskExportWriter.Format.from("csv"));
+		assertEquals(TaskExportWriter.Format.NDJSON, TaskExportWriter.Format.from("NDJSON"));
+		assertThrows(IllegalArgumentException.class, () -> TaskExportWriter.Format.from("xml"));
+		assertThrows(IllegalArgumentException.class, () -> TaskExportWriter.Format.from(null));
+	}
+
+	private static String export(TaskExportWriter.Format format, TaskSummary... tasks) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (TaskExportWriter writer = TaskExportWriter.of(format, out)) {
+			for (TaskSummary task : tasks) {
+				writer.write(task);
+			}
+		}
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
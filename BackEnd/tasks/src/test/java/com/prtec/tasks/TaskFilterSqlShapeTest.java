@@ -0,0 +1,173 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import com.prtec.tasks.application.service.TaskService;
+import com.prtec.tasks.application.utils.TaskSort;
+
+/**
+ * Verifica la forma de la sentencia SQL que genera cada combinación de filtros:
+ * solo los predicados recibidos y ninguna condición {@code ? is null or ...}.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:tasks-sql;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.prtec.tasks.TaskFilterSqlShapeTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskService.class)
+class TaskFilterSqlShapeTest {
+	private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+	@Autowired
+	private TaskService taskService;
+
+	/**
+	 * Guarda las sentencias que Hibernate envía a la base de datos.
+	 */
+	public static class SqlCapture implements StatementInspector {
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " "));
+			return sql;
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		SqlCapture.STATEMENTS.clear();
+	}
+
+	@Test
+	void testUserOnly() {
+		taskService.getTasksSliceByFilters(3L, null, null, null, PAGE);
+
+		String where = singleWhere();
+		assertPredicates(where, "user_id=?");
+		assertAbsent(where, "status", "priority", "like");
+	}
+
+	@Test
+	void testUserAndStatus() {
+		taskService.getTasksSliceByFilters(3L, null, "pendiente", null, PAGE);
+
+		String where = singleWhere();
+		assertPredicates(where, "user_id=?", "status=?");
+		assertAbsent(where, "priority", "like");
+	}
+
+	@Test
+	void testUserStatusAndPriority() {
+		taskService.getTasksSliceByFilters(3L, null, "pendiente", "alta", PAGE);
+
+		assertPredicates(singleWhere(), "user_id=?", "status=?", "priority=?");
+	}
+
+	@Test
+	void testTitleSearch() {
+		taskService.getTasksSliceByFilters(3L, "informe", null, null, PAGE);
+
+		String where = singleWhere();
+		assertPredicates(where, "user_id=?", "lower(title) like ?");
+		assertAbsent(where, "status", "priority");
+	}
+
+	@Test
+	void testAdminWithoutFiltersHasNoWhere() {
+		taskService.getTasksSliceByFilters(null, null, null, null, PAGE);
+
+		assertEquals(1, SqlCapture.STATEMENTS.size());
+		assertFalse(SqlCapture.STATEMENTS.get(0).contains(" where "), SqlCapture.STATEMENTS.get(0));
+	}
+
+	@Test
+	void testCountUsesSamePredicatesWithoutJoin() {
+		taskService.countTasksByFilters(3L, null, null, "baja");
+
+		String sql = SqlCapture.STATEMENTS.get(0);
+		assertTrue(sql.startsWith("select count("), sql);
+		assertFalse(sql.contains("user_details"), sql);
+		assertPredicates(singleWhere(), "user_id=?", "priority=?");
+	}
+
+	@Test
+	void testKeysetAddsIdAndOrder() {
+		taskService.scrollTasksByFilters(3L, null, "completada", null, null, 10);
+
+		String sql = SqlCapture.STATEMENTS.get(0);
+		assertPredicates(singleWhere(), "user_id=?", "status=?", "id>?");
+		// Hibernate puede ordenar por la posición de id en el SELECT (order by 1)
+		assertTrue(Pattern.compile("order by (1|\\w+\\.id)( asc)?( |$)").matcher(sql).find(), sql);
+	}
+
+	@Test
+	void testSortKeysEndWithIdTiebreaker() {
+		taskService.getTasksSliceByFilters(3L, null, null, null, PageRequest.of(0, 10, TaskSort.parse("dueDate,desc")));
+		taskService.getAllTasksSlice(PageRequest.of(0, 10, TaskSort.parse("status")));
+
+		// Criteria y JPQL (@Query) agregan el mismo ORDER BY; Hibernate puede usar la
+		// posición de la columna en el SELECT
+		assertEquals(2, SqlCapture.STATEMENTS.size());
+		assertOrderBy(SqlCapture.STATEMENTS.get(0), "(6|\\w+\\.due_date) desc,(1|\\w+\\.id) desc");
+		assertOrderBy(SqlCapture.STATEMENTS.get(1),
+				"(4|\\w+\\.status)( asc)?,(5|\\w+\\.priority)( asc)?,(1|\\w+\\.id)( asc)?");
+	}
+
+	private static void assertOrderBy(String sql, String orderBy) {
+		assertTrue(Pattern.compile("order by " + orderBy + " (offset|fetch|limit)").matcher(sql).find(), sql);
+	}
+
+	private static String singleWhere() {
+		assertEquals(1, SqlCapture.STATEMENTS.size(), SqlCapture.STATEMENTS::toString);
+		String sql = SqlCapture.STATEMENTS.get(0);
+		assertFalse(sql.contains("is null"), sql);
+		int where = sql.indexOf(" where ");
+		assertTrue(where >= 0, sql);
+		int end = sql.indexOf(" order by ", where);
+		int limit = sql.indexOf(" offset ", where);
+		if (end < 0 || (limit >= 0 && limit < end)) {
+			end = limit;
+		}
+		int fetch = sql.indexOf(" fetch ", where);
+		if (end < 0 || (fetch >= 0 && fetch < end)) {
+			end = fetch;
+		}
+		return end < 0 ? sql.substring(where) : sql.substring(where, end);
+	}
+
+	// Cada predicado aparece una vez, unido con and
+	private static void assertPredicates(String where, String... predicates) {
+		for (String predicate : predicates) {
+			String regex = predicate.startsWith("lower(")
+					? "lower\\(\\w+\\." + Pattern.quote(predicate.substring("lower(".length()))
+					: "\\w+\\." + Pattern.quote(predicate);
+			assertEquals(1, Pattern.compile(regex).matcher(where).results().count(), predicate + " en: " + where);
+		}
+		assertEquals(predicates.length - 1L, Pattern.compile(" and ").matcher(where).results().count(), where);
+	}
+
+	private static void assertAbsent(String where, String... columns) {
+		for (String column : columns) {
+			assertFalse(where.contains(column), column + " en: " + where);
+		}
+	}
+}
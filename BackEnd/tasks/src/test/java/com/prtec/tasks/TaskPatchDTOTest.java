@@ -0,0 +1,53 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+import com.prtec.tasks.domain.model.entity.Task;
+
+/**
+ * Verifica que el cuerpo del PATCH distingue un campo ausente de un null
+ * explícito, con la misma configuración de Jackson que usa Spring MVC.
+ */
+class TaskPatchDTOTest {
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@Test
+	void testAbsentFieldsKeepTheirValue() throws JsonProcessingException {
+		TaskPatchDTO patch = read("{\"status\":\"COMPLETADA\"}");
+
+		assertEquals(Task.TaskStatus.COMPLETADA, patch.status());
+		assertNull(patch.description());
+		assertNull(patch.dueDate());
+		assertTrue(read("{}").isEmpty());
+	}
+
+	@Test
+	void testExplicitNullClearsNullableFields() throws JsonProcessingException {
+		TaskPatchDTO patch = read("{\"description\":null,\"dueDate\":null}");
+
+		assertEquals(Optional.empty(), patch.description());
+		assertEquals(Optional.empty(), patch.dueDate());
+		assertFalse(patch.isEmpty());
+	}
+
+	@Test
+	void testValuesAreSet() throws JsonProcessingException {
+		TaskPatchDTO patch = read("{\"description\":\"Nota\",\"dueDate\":\"2025-05-01\"}");
+
+		assertEquals(Optional.of("Nota"), patch.description());
+		assertEquals(Optional.of(LocalDate.of(2025, 5, 1)), patch.dueDate());
+	}
+
+	private TaskPatchDTO read(String json) throws JsonProcessingException {
+		return objectMapper.readValue(json, TaskPatchDTO.class);
+	}
+}
@@ -0,0 +1,331 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.prtec.tasks.application.service.TaskService;
+import com.prtec.tasks.application.utils.TaskCursor;
+import com.prtec.tasks.application.utils.TaskSort;
+import com.prtec.tasks.domain.model.entity.Task;
+
+/**
+ * Verifica con EXPLAIN que las consultas que Hibernate genera para
+ * ITaskRepository, ITaskFilterRepository y TaskSpecifications usan índices
+ * del esquema de db/migration.
+ *
+ * <p>
+ * Cada prueba llama al método real de TaskService, captura la sentencia y los
+ * parámetros que llegan al driver de JDBC y ejecuta EXPLAIN sobre esa misma
+ * sentencia. Necesita un MySQL 8 con una base de datos desechable (Flyway la
+ * limpia y la migra desde cero):
+ * </p>
+ *
+ * <pre>
+ * mvn test -Dtest=TaskQueryIndexUsageTest \
+ *     -Dtasks.explain.jdbc-url=jdbc:mysql://localhost:3306/prtec_task_explain \
+ *     -Dtasks.explain.user=root -Dtasks.explain.password=root
+ * </pre>
+ */
+@DataJpaTest(properties = {
+		"spring.flyway.clean-disabled=false",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TaskService.class, TaskQueryIndexUsageTest.CaptureConfig.class })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "tasks.explain.jdbc-url", matches = ".+")
+class TaskQueryIndexUsageTest {
+	private static final int USERS = 20;
+	private static final int TASKS_PER_USER = 500;
+	private static final PageRequest PAGE = PageRequest.of(0, 10);
+	private static final Pattern TASKS_ALIAS = Pattern.compile("\\bfrom tasks (?:as )?(\\w+)",
+			Pattern.CASE_INSENSITIVE);
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getProperty("tasks.explain.jdbc-url"));
+		registry.add("spring.datasource.username", () -> System.getProperty("tasks.explain.user", "root"));
+		registry.add("spring.datasource.password", () -> System.getProperty("tasks.explain.password", ""));
+	}
+
+	/**
+	 * Sentencia preparada tal como llegó al driver, con sus parámetros en orden.
+	 */
+	record CapturedStatement(String sql, List<Object> params) {
+	}
+
+	@TestConfiguration
+	static class CaptureConfig {
+		static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		// Base de datos desechable: se limpia antes de migrar
+		@Bean
+		FlywayMigrationStrategy cleanMigrate() {
+			return flyway -> {
+				flyway.clean();
+				flyway.migrate();
+			};
+		}
+
+		@Bean
+		static BeanPostProcessor capturingDataSource() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (!(bean instanceof DataSource target)) {
+						return bean;
+					}
+					return proxy(DataSource.class, target, (method, args, result) -> result instanceof Connection connection
+							? capturing(connection)
+							: result);
+				}
+			};
+		}
+
+		private static Connection capturing(Connection target) {
+			return proxy(Connection.class, target, (method, args, result) -> result instanceof PreparedStatement statement
+					&& method.getName().equals("prepareStatement")
+							? capturing(statement, (String) args[0])
+							: result);
+		}
+
+		private static PreparedStatement capturing(PreparedStatement target, String sql) {
+			Map<Integer, Object> params = new TreeMap<>();
+			return proxy(PreparedStatement.class, target, (method, args, result) -> {
+				String name = method.getName();
+				if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+					params.put(index, name.equals("setNull") ? null : args[1]);
+				} else if (name.equals("clearParameters")) {
+					params.clear();
+				} else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+					STATEMENTS.add(new CapturedStatement(sql, new ArrayList<>(params.values())));
+				}
+				return result;
+			});
+		}
+
+		private interface AfterCall {
+			Object apply(Method method, Object[] args, Object result) throws SQLException;
+		}
+
+		private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+			InvocationHandler handler = (proxy, method, args) -> {
+				try {
+					return afterCall.apply(method, args, method.invoke(target, args));
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			};
+			return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+		}
+	}
+
+	@BeforeAll
+	void setUp() throws SQLException {
+		seed();
+	}
+
+	@BeforeEach
+	void clearStatements() {
+		CaptureConfig.STATEMENTS.clear();
+	}
+
+	@Test
+	void testFilteredSliceUsesUserIndex() {
+		taskService.getTasksSliceByFilters(3L, null, "pendiente", null, PAGE);
+		assertTasksUse("idx_tasks_user_status_priority", firstStatement());
+
+		clearStatements();
+		taskService.getTasksSliceByFilters(3L, "informe", null, null, PAGE);
+		assertTasksUse("idx_tasks_user_status_priority", firstStatement());
+	}
+
+	@Test
+	void testAdminFilteredSliceUsesStatusIndex() {
+		taskService.getTasksSliceByFilters(null, null, "completada", "baja", PAGE);
+
+		assertTasksUse("idx_tasks_status_priority", firstStatement());
+	}
+
+	@Test
+	void testFindByUsernameUsesUniqueAndUserIndexes() {
+		taskService.getTasksSliceByUser("user3", PAGE);
+
+		List<String> keys = explain(firstStatement()).stream().map(row -> (String) row.get("key")).toList();
+		assertTrue(keys.contains("uk_user_details_username"), keys::toString);
+		assertTrue(keys.contains("idx_tasks_user_status_priority"), keys::toString);
+	}
+
+	@Test
+	void testKeysetQueriesUseIndexes() {
+		taskService.scrollTasksByFilters(3L, null, null, null, TaskCursor.encode(1000L), 10);
+		assertIndexOrdered("idx_tasks_user_id", firstStatement());
+
+		clearStatements();
+		taskService.scrollTasksByFilters(null, null, null, null, TaskCursor.encode(5000L), 10);
+		assertIndexOrdered("PRIMARY", firstStatement());
+
+		clearStatements();
+		taskService.scrollTasksByFilters(null, null, "pendiente", null, TaskCursor.encode(5000L), 10);
+		assertIndexOrdered("idx_tasks_status_id", firstStatement());
+	}
+
+	@Test
+	void testDefaultSortedPageIsReadInIndexOrder() {
+		taskService.getTasksSliceByFilters(3L, null, null, null, PageRequest.of(0, 10, TaskSort.DEFAULT));
+
+		assertIndexOrdered("idx_tasks_user_id", firstStatement());
+	}
+
+	@Test
+	void testCountUsesUserIndex() {
+		taskService.countTasksByFilters(3L, null, null, "alta");
+
+		assertTasksUse("idx_tasks_user_status_priority", firstStatement());
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"dueDate, idx_tasks_user_due_date, idx_tasks_due_date",
+			"priority, idx_tasks_user_priority, idx_tasks_priority",
+			"createdAt, idx_tasks_user_created_at, idx_tasks_created_at",
+			"updatedAt, idx_tasks_user_updated_at, idx_tasks_updated_at",
+			"status, idx_tasks_user_status_priority, idx_tasks_status_priority"
+	})
+	void testSortedPagesAreReadInIndexOrder(String key, String userIndex, String adminIndex) {
+		taskService.getTasksSliceByFilters(3L, null, null, null, PageRequest.of(0, 10, TaskSort.parse(key + ",desc")));
+		assertIndexOrdered(userIndex, firstStatement());
+
+		clearStatements();
+		taskService.getAllTasksSlice(PageRequest.of(0, 10, TaskSort.parse(key)));
+		assertIndexOrdered(adminIndex, firstStatement());
+	}
+
+	@Test
+	void testSearchUsesFullTextIndex() {
+		taskService.searchTasks(null, "informe", null, null, PAGE);
+
+		assertTasksUse("ft_tasks_title_description", firstStatement());
+	}
+
+	private static CapturedStatement firstStatement() {
+		assertFalse(CaptureConfig.STATEMENTS.isEmpty(), "Sin sentencias capturadas");
+		return CaptureConfig.STATEMENTS.get(0);
+	}
+
+	// La fila de tasks usa el índice; las de user_details (join) no se revisan
+	private void assertTasksUse(String index, CapturedStatement statement) {
+		Map<String, Object> row = tasksRow(statement);
+		assertNotEquals("ALL", row.get("type"), "Recorrido completo: " + statement.sql());
+		assertEquals(index, row.get("key"), "EXPLAIN " + statement.sql());
+	}
+
+	private void assertIndexOrdered(String index, CapturedStatement statement) {
+		assertEquals(index, tasksRow(statement).get("key"), "EXPLAIN " + statement.sql());
+		for (Map<String, Object> row : explain(statement)) {
+			String extra = (String) row.get("Extra");
+			assertFalse(extra != null && extra.contains("filesort"), "filesort: " + statement.sql());
+		}
+	}
+
+	private Map<String, Object> tasksRow(CapturedStatement statement) {
+		Matcher matcher = TASKS_ALIAS.matcher(statement.sql());
+		assertTrue(matcher.find(), statement.sql());
+		String alias = matcher.group(1);
+
+		List<Map<String, Object>> rows = explain(statement).stream()
+				.filter(row -> alias.equalsIgnoreCase((String) row.get("table")))
+				.toList();
+		assertEquals(1, rows.size(), "EXPLAIN " + statement.sql());
+		return rows.get(0);
+	}
+
+	private List<Map<String, Object>> explain(CapturedStatement statement) {
+		return jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.params().toArray());
+	}
+
+	private void seed() throws SQLException {
+		Task.TaskStatus[] statuses = Task.TaskStatus.values();
+		Task.TaskPriority[] priorities = Task.TaskPriority.values();
+
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement userInsert = connection.prepareStatement(
+						"INSERT INTO user_details (id, user_id, username) VALUES (?, ?, ?)");
+				PreparedStatement taskInsert = connection.prepareStatement(
+						"INSERT INTO tasks (id, title, description, status, priority, user_id, due_date, "
+								+ "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, CURDATE() + INTERVAL ? DAY, "
+								+ "NOW(6) - INTERVAL ? SECOND, NOW(6))");
+				Statement statement = connection.createStatement()) {
+			for (long userId = 1; userId <= USERS; userId++) {
+				userInsert.setLong(1, userId);
+				userInsert.setLong(2, userId);
+				userInsert.setString(3, "user" + userId);
+				userInsert.addBatch();
+			}
+			userInsert.executeBatch();
+
+			for (int i = 0; i < USERS * TASKS_PER_USER; i++) {
+				// Sin AUTO_INCREMENT desde V2: el id lo asigna Hibernate con tasks_seq
+				taskInsert.setLong(1, i + 1L);
+				taskInsert.setString(2, (i % 7 == 0 ? "Preparar informe " : "Revisar correos ") + i);
+				taskInsert.setString(3, "Descripción de la tarea " + i);
+				taskInsert.setByte(4, statuses[i % statuses.length].getCode());
+				taskInsert.setByte(5, priorities[(i / 3) % priorities.length].getCode());
+				taskInsert.setLong(6, (i % USERS) + 1L);
+				taskInsert.setInt(7, i % 90);
+				taskInsert.setInt(8, USERS * TASKS_PER_USER - i);
+				taskInsert.addBatch();
+			}
+			taskInsert.executeBatch();
+
+			statement.execute("ANALYZE TABLE user_details, tasks");
+		}
+	}
+}
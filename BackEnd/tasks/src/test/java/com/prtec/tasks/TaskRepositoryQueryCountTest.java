@@ -0,0 +1,208 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.prtec.tasks.adapter.out.repository.ITaskRepository;
+import com.prtec.tasks.adapter.out.repository.TaskSpecifications;
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:tasks;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskRepositoryQueryCountTest {
+	private static final int USERS = 10;
+	private static final int TASKS = 60;
+	private static final Sort BY_ID = Sort.by("id");
+
+	@Autowired
+	private ITaskRepository taskRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UserDetails firstUser;
+
+	@BeforeEach
+	void setUp() {
+		for (long i = 1; i <= USERS; i++) {
+			UserDetails user = new UserDetails();
+			user.setUserId(i);
+			user.setUsername("user" + i);
+			entityManager.persist(user);
+			if (firstUser == null) {
+				firstUser = user;
+			}
+		}
+
+		List<UserDetails> users = entityManager.getEntityManager()
+				.createQuery("SELECT u FROM UserDetails u", UserDetails.class).getResultList();
+		for (int i = 0; i < TASKS; i++) {
+			Task task = new Task();
+			task.setTitle("Tarea " + i);
+			task.setStatus(Task.TaskStatus.values()[i % 3]);
+			task.setUserDetails(users.get(i % USERS));
+			entityManager.persist(task);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 5, 20, 50 })
+	void testFindByFiltersLoadsOwnersInThePageQuery(int size) {
+		List<TaskSummary> tasks = taskRepository.findSummaries(TaskSpecifications.filter(null, null, null, null),
+				PageRequest.of(0, size)).getContent();
+		touchOwners(tasks);
+
+		// consulta de la página + COUNT, sin cargar entidades
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 5, 20, 50 })
+	void testSliceQueriesIssueOneStatement(int size) {
+		Slice<TaskSummary> tasks = taskRepository.findSummarySlice(
+				TaskSpecifications.filter(null, null, Task.TaskStatus.PENDIENTE, null), PageRequest.of(0, size));
+		touchOwners(tasks.getContent());
+		touchOwners(taskRepository.findSliceOfSummaries(PageRequest.of(0, size)).getContent());
+		touchOwners(taskRepository.findSummaries(TaskSpecifications.filter(null, null, null, null)
+				.and(TaskSpecifications.idGreaterThan(0L)), BY_ID, size + 1));
+
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 5, 20, 50 })
+	void testUserQueriesLoadOwnersInThePageQuery(int size) {
+		touchOwners(taskRepository.findByUsername("user1", PageRequest.of(0, size)).getContent());
+		touchOwners(taskRepository.findSummaries(TaskSpecifications.filter(firstUser.getId(), null, null, null)
+				.and(TaskSpecifications.idGreaterThan(0L)), BY_ID, size + 1));
+
+		// findByUsername: página (+ COUNT solo si la página viene llena); keyset: una consulta
+		int ownTasks = TASKS / USERS;
+		assertEquals(size <= ownTasks ? 3 : 2, statistics.getPrepareStatementCount());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 5, 20, 50 })
+	void testFindAllAndFindByIdsLoadOwners(int size) {
+		List<TaskSummary> page = taskRepository.findAllSummaries(PageRequest.of(0, size)).getContent();
+		touchOwners(page);
+		touchOwners(taskRepository.findSummariesByIdIn(page.stream().map(TaskSummary::id).toList()));
+
+		// findAllSummaries: página + COUNT; findSummariesByIdIn: una consulta
+		assertEquals(3, statistics.getPrepareStatementCount());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 30 })
+	void testOwnerScopedOperationsIssueOneStatement(int position) {
+		Task task = taskRepository.findSummaries(TaskSpecifications.filter(firstUser.getId(), null, null, null),
+				BY_ID, TASKS).stream()
+				.map(summary -> entityManager.find(Task.class, summary.id()))
+				.findFirst().orElseThrow();
+		Long otherUserId = firstUser.getId() + position % USERS + 1;
+		entityManager.clear();
+		statistics.clear();
+
+		// Lectura y autorización en una sola consulta, con el usuario cargado
+		assertTrue(taskRepository.findByIdAndUserDetailsId(task.getId(), firstUser.getId())
+				.map(found -> found.getUserDetails().getUsername()).isPresent());
+		assertTrue(taskRepository.findByIdAndUserDetailsId(task.getId(), otherUserId).isEmpty());
+		// El admin usa findById; se limpia el contexto para que consulte la base
+		entityManager.clear();
+		assertTrue(taskRepository.findById(task.getId()).isPresent());
+		assertEquals(3, statistics.getPrepareStatementCount());
+
+		// Cambio parcial con el dueño en el WHERE, sin leer la tarea
+		LocalDate dueDate = LocalDate.of(2025, 5, 1);
+		TaskPatchDTO patch = new TaskPatchDTO(null, Optional.of("Nota"), Task.TaskStatus.COMPLETADA, null,
+				Optional.of(dueDate));
+		assertEquals(0, taskRepository.patchByIdAndOwner(task.getId(), otherUserId, patch));
+		assertEquals(1, taskRepository.patchByIdAndOwner(task.getId(), firstUser.getId(), patch));
+		assertEquals(5, statistics.getPrepareStatementCount());
+		entityManager.clear();
+		Task patched = entityManager.find(Task.class, task.getId());
+		assertEquals(Task.TaskStatus.COMPLETADA, patched.getStatus());
+		assertEquals(task.getTitle(), patched.getTitle());
+		assertEquals(task.getPriority(), patched.getPriority());
+		assertEquals("Nota", patched.getDescription());
+		assertEquals(dueDate, patched.getDueDate());
+
+		// Optional.empty() (null explícito en el JSON) borra description y dueDate
+		assertEquals(1, taskRepository.patchByIdAndOwner(task.getId(), firstUser.getId(),
+				new TaskPatchDTO(null, Optional.empty(), null, null, Optional.empty())));
+		entityManager.clear();
+		Task cleared = entityManager.find(Task.class, task.getId());
+		assertNull(cleared.getDescription());
+		assertNull(cleared.getDueDate());
+		assertEquals(Task.TaskStatus.COMPLETADA, cleared.getStatus());
+		statistics.clear();
+
+		// Borrado con el dueño en el WHERE
+		assertEquals(0, taskRepository.deleteByIdAndUser(task.getId(), otherUserId));
+		assertEquals(1, taskRepository.deleteByIdAndUser(task.getId(), firstUser.getId()));
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 5, 20, 50 })
+	void testFindAllByIdInIssuesOneStatement(int size) {
+		List<Long> ids = taskRepository.findSummaries(TaskSpecifications.filter(null, null, null, null), BY_ID, size)
+				.stream().map(TaskSummary::id).toList();
+		statistics.clear();
+
+		// Tareas del usuario con su dueño cargado, en una sola consulta
+		List<Task> own = taskRepository.findAllByIdInAndUser(ids, firstUser.getId());
+		own.forEach(task -> assertEquals(firstUser.getId(), task.getUserDetails().getId()));
+		// Admin: sin filtro de dueño, también con el usuario en la misma consulta
+		List<Task> all = taskRepository.findAllByIdIn(ids);
+		all.forEach(task -> assertNotNull(task.getUserDetails().getUsername()));
+		assertEquals(ids.size(), all.size());
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals((size + USERS - 1) / USERS, own.size());
+
+		assertEquals(ids.size(), taskRepository.findExistingIds(ids).size());
+	}
+
+	private static void touchOwners(List<TaskSummary> tasks) {
+		assertFalse(tasks.isEmpty());
+		tasks.forEach(task -> assertNotNull(task.userDetails().username()));
+	}
+}
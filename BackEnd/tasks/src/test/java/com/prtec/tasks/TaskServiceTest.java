@@ -1,6 +1,7 @@
 package com.prtec.tasks;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -9,6 +10,11 @@ import static org.mockito.Mockito.*;
 import com.prtec.tasks.adapter.out.repository.ITaskRepository;
 import com.prtec.tasks.application.exceptions.TaskNotFoundException;
 import com.prtec.tasks.application.service.TaskService;
+import com.prtec.tasks.application.utils.TaskCursor;
+import com.prtec.tasks.domain.model.dto.CursorPage;
+import com.prtec.tasks.domain.model.dto.TaskBatchGetResponse;
+import com.prtec.tasks.domain.model.dto.TaskPatchDTO;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
 import com.prtec.tasks.domain.model.entity.Task;
 import com.prtec.tasks.domain.model.entity.UserDetails;
 
@@ -17,7 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,10 +41,14 @@ class TaskServiceTest {
 	@Mock
 	private ITaskRepository taskRepository;
 
+	@Mock
+	private EntityManager entityManager;
+
 	@InjectMocks
 	private TaskService taskService;
 
 	private Task task;
+	private TaskSummary summary;
 
 	@BeforeEach
 	void setUp() {
@@ -44,6 +62,7 @@ class TaskServiceTest {
 		UserDetails userDetails = new UserDetails();
 		userDetails.setUsername("user1");
 		task.setUserDetails(userDetails);
+		summary = summaryWithId(1L);
 	}
 
 	@Test
@@ -82,10 +101,9 @@ class TaskServiceTest {
 		updatedTask.setUserDetails(userDetails);
 
 		when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-		when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
 
-		// Act
-		Task result = taskService.updateTask(1L, updatedTask);
+		// Act: el admin carga la tarea sin filtro de dueño
+		Task result = taskService.updateTask(1L, null, updatedTask).orElseThrow();
 
 		// Assert
 		assertEquals("Updated Task", result.getTitle());
@@ -103,55 +121,260 @@ class TaskServiceTest {
 		when(taskRepository.findById(1L)).thenReturn(Optional.empty());
 
 		// Act & Assert
-		assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(1L, updatedTask));
+		assertTrue(taskService.updateTask(1L, null, updatedTask).isEmpty());
+	}
+
+	@Test
+	void testUpdateTaskWithOwner() {
+		// Arrange
+		Task change = new Task();
+		change.setTitle("Updated Task");
+		change.setStatus(Task.TaskStatus.EN_PROGRESO);
+		change.setPriority(Task.TaskPriority.BAJA);
+		when(taskRepository.findByIdAndUserDetailsId(1L, 3L)).thenReturn(Optional.of(task));
+		when(taskRepository.findByIdAndUserDetailsId(1L, 4L)).thenReturn(Optional.empty());
+
+		// Act
+		Optional<Task> result = taskService.updateTask(1L, 3L, change);
+
+		// Assert: la carga incluye el dueño y el UPDATE queda para el flush
+		assertTrue(result.isPresent());
+		assertEquals("Updated Task", result.get().getTitle());
+		assertEquals(Task.TaskStatus.EN_PROGRESO, result.get().getStatus());
+		assertTrue(taskService.updateTask(1L, 4L, change).isEmpty());
+		verify(taskRepository, never()).findById(any());
+		verify(taskRepository, never()).save(any());
+	}
+
+	@Test
+	void testDeleteTaskWithOwner() {
+		// Arrange
+		when(taskRepository.deleteByIdAndUser(1L, 3L)).thenReturn(1);
+		when(taskRepository.deleteByIdAndUser(1L, 4L)).thenReturn(0);
+
+		// Act & Assert
+		assertTrue(taskService.deleteTask(1L, 3L));
+		assertFalse(taskService.deleteTask(1L, 4L));
+		verify(taskRepository, never()).existsById(any());
+		verify(taskRepository, never()).deleteByIdIn(any());
+	}
+
+	@Test
+	void testFindTasksReportsMissingAndForbiddenIds() {
+		// Arrange: 1 es del usuario, 2 es de otro y 9 no existe
+		Task second = new Task();
+		second.setId(3L);
+		when(taskRepository.findAllByIdInAndUser(List.of(3L, 2L, 1L, 9L), 5L)).thenReturn(List.of(task, second));
+		when(taskRepository.findExistingIds(List.of(2L, 9L))).thenReturn(List.of(2L));
+
+		// Act
+		TaskBatchGetResponse result = taskService.findTasks(List.of(3L, 2L, 1L, 9L, 1L), 5L);
+
+		// Assert: en el orden pedido y sin repetidos
+		assertEquals(List.of(second, task), result.tasks());
+		assertEquals(List.of(9L), result.notFound());
+		assertEquals(List.of(2L), result.forbidden());
 	}
 
 	@Test
-	void testDeleteTask() {
+	void testFindTasksSkipsExistenceQueryWhenAllFound() {
 		// Arrange
-		when(taskRepository.existsById(1L)).thenReturn(true);
+		when(taskRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(task));
 
 		// Act
-		boolean result = taskService.deleteTask(1L);
+		TaskBatchGetResponse result = taskService.findTasks(List.of(1L), null);
+
+		// Assert
+		assertEquals(List.of(task), result.tasks());
+		assertTrue(result.notFound().isEmpty());
+		assertTrue(result.forbidden().isEmpty());
+		verify(taskRepository, never()).findExistingIds(any());
+		verify(taskRepository, never()).findAllByIdInAndUser(any(), any());
+	}
+
+	@Test
+	void testPatchTask() {
+		// Arrange
+		TaskPatchDTO patch = new TaskPatchDTO(null, null, Task.TaskStatus.COMPLETADA, null, null);
+		when(taskRepository.patchByIdAndOwner(1L, 3L, patch)).thenReturn(1);
+
+		// Act & Assert: un solo UPDATE, sin cargar la tarea
+		assertEquals(1, taskService.patchTask(1L, 3L, patch));
+		verify(taskRepository, never()).findByIdAndUserDetailsId(any(), any());
+		verify(taskRepository, never()).save(any());
+	}
+
+	@Test
+	void testPatchTaskRejectsEmptyOrBlankTitle() {
+		// Act & Assert
+		TaskPatchDTO empty = new TaskPatchDTO(null, null, null, null, null);
+		TaskPatchDTO blankTitle = new TaskPatchDTO(" ", null, null, null, null);
+		assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, 3L, empty));
+		assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, 3L, blankTitle));
+		verify(taskRepository, never()).patchByIdAndOwner(any(), any(), any());
+	}
+
+	@Test
+	void testFindTask() {
+		// Arrange
+		when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+		when(taskRepository.findByIdAndUserDetailsId(1L, 3L)).thenReturn(Optional.of(task));
+
+		// Act & Assert: el admin sin filtro, el usuario con su id en el WHERE
+		assertSame(task, taskService.findTask(1L, null).orElseThrow());
+		assertSame(task, taskService.findTask(1L, 3L).orElseThrow());
+		assertTrue(taskService.findTask(1L, 4L).isEmpty());
+		verify(taskRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	void testDeleteTaskAsAdmin() {
+		// Arrange
+		when(taskRepository.deleteByIdIn(List.of(1L))).thenReturn(1);
+
+		// Act
+		boolean result = taskService.deleteTask(1L, null);
 
 		// Assert
 		assertTrue(result);
-		verify(taskRepository, times(1)).deleteById(1L);
+		verify(taskRepository, never()).deleteByIdAndUser(any(), any());
 	}
 
 	@Test
-	void testDeleteTaskNotFound() {
+	void testDeleteTaskAsAdminNotFound() {
 		// Arrange
-		when(taskRepository.existsById(1L)).thenReturn(false);
+		when(taskRepository.deleteByIdIn(List.of(1L))).thenReturn(0);
 
 		// Act
-		boolean result = taskService.deleteTask(1L);
+		boolean result = taskService.deleteTask(1L, null);
 
 		// Assert
 		assertFalse(result);
-		verify(taskRepository, times(0)).deleteById(1L);
 	}
 
 	@Test
-	void testGetTaskById() {
+	@SuppressWarnings("unchecked")
+	void testCreateTasksInChunks() {
 		// Arrange
-		when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+		UserDetails owner = task.getUserDetails();
+		List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < 1200; i++) {
+			Task newTask = new Task();
+			newTask.setId(99L);
+			newTask.setTitle("Tarea " + i);
+			tasks.add(newTask);
+		}
+		when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Task> chunk = invocation.getArgument(0);
+			chunk.forEach(saved -> saved.setId((long) tasks.indexOf(saved) + 1));
+			return chunk;
+		});
 
 		// Act
-		Task result = taskService.getTaskById(1L);
+		List<Long> ids = taskService.createTasks(tasks, owner);
+
+		// Assert: 500 + 500 + 200, con flush y clear después de cada bloque
+		assertEquals(1200, ids.size());
+		assertEquals(1L, ids.get(0));
+		assertEquals(1200L, ids.get(1199));
+		assertTrue(tasks.stream().allMatch(created -> created.getUserDetails() == owner));
+		ArgumentCaptor<List<Task>> chunks = ArgumentCaptor.forClass(List.class);
+		verify(taskRepository, times(3)).saveAll(chunks.capture());
+		assertEquals(List.of(500, 500, 200), chunks.getAllValues().stream().map(List::size).toList());
+		verify(taskRepository, times(3)).flush();
+		verify(entityManager, times(3)).clear();
+	}
+
+	@Test
+	void testCreateTasksWithoutTitle() {
+		// Arrange
+		Task withoutTitle = new Task();
+
+		// Act & Assert: no se escribe nada si alguna tarea es inválida
+		assertThrows(IllegalArgumentException.class,
+				() -> taskService.createTasks(List.of(task, withoutTitle), task.getUserDetails()));
+		assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(List.of(task), null));
+		verify(taskRepository, never()).saveAll(any());
+	}
+
+	@Test
+	void testUpdateTasks() {
+		// Arrange
+		Task change = new Task();
+		change.setId(1L);
+		change.setTitle("Updated Task");
+		change.setStatus(Task.TaskStatus.COMPLETADA);
+		change.setPriority(Task.TaskPriority.BAJA);
+		Task missing = new Task();
+		missing.setId(7L);
+		when(taskRepository.findAllById(List.of(1L, 7L))).thenReturn(List.of(task));
+
+		// Act
+		int updated = taskService.updateTasks(List.of(change, missing), null);
 
 		// Assert
-		assertNotNull(result);
-		assertEquals(1L, result.getId());
+		assertEquals(1, updated);
+		assertEquals("Updated Task", task.getTitle());
+		assertEquals(Task.TaskStatus.COMPLETADA, task.getStatus());
+		assertEquals(Task.TaskPriority.BAJA, task.getPriority());
+		// Los campos ausentes conservan su valor
+		assertEquals("This is a test task", task.getDescription());
+		verify(taskRepository, times(1)).flush();
+		verify(taskRepository, never()).save(any());
 	}
 
 	@Test
-	void testGetTaskByIdNotFound() {
+	void testUpdateTasksLoadsOnlyOwnedTasks() {
 		// Arrange
-		when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+		Task change = new Task();
+		change.setId(1L);
+		change.setStatus(Task.TaskStatus.EN_PROGRESO);
+		Task foreign = new Task();
+		foreign.setId(7L);
+		when(taskRepository.findAllByIdInAndUserDetailsId(List.of(1L), 3L)).thenReturn(List.of(task));
+		when(taskRepository.findAllByIdInAndUserDetailsId(List.of(1L, 7L), 3L)).thenReturn(List.of(task));
 
 		// Act & Assert
-		assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(1L));
+		assertEquals(1, taskService.updateTasks(List.of(change), 3L));
+		assertEquals("Test Task", task.getTitle());
+		assertEquals(Task.TaskStatus.EN_PROGRESO, task.getStatus());
+		assertThrows(TaskNotFoundException.class, () -> taskService.updateTasks(List.of(change, foreign), 3L));
+		verify(taskRepository, never()).findAllById(any());
+	}
+
+	@Test
+	void testUpdateTasksWithoutId() {
+		assertThrows(IllegalArgumentException.class, () -> taskService.updateTasks(List.of(new Task()), null));
+		Task blankTitle = new Task();
+		blankTitle.setId(1L);
+		blankTitle.setTitle(" ");
+		assertThrows(IllegalArgumentException.class, () -> taskService.updateTasks(List.of(blankTitle), 3L));
+		verifyNoInteractions(taskRepository);
+	}
+
+	@Test
+	void testDeleteTasks() {
+		// Arrange
+		when(taskRepository.deleteByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+		// Act
+		int deleted = taskService.deleteTasks(List.of(1L, 2L, 1L), null);
+
+		// Assert
+		assertEquals(2, deleted);
+		verify(taskRepository, times(1)).deleteByIdIn(any());
+	}
+
+	@Test
+	void testDeleteTasksFiltersByOwner() {
+		// Arrange
+		when(taskRepository.deleteByIdInAndUser(List.of(1L, 2L), 3L)).thenReturn(2);
+		when(taskRepository.deleteByIdInAndUser(List.of(1L, 5L), 3L)).thenReturn(1);
+
+		// Act & Assert
+		assertEquals(2, taskService.deleteTasks(List.of(1L, 2L, 2L), 3L));
+		assertThrows(TaskNotFoundException.class, () -> taskService.deleteTasks(List.of(1L, 5L), 3L));
+		verify(taskRepository, never()).deleteByIdIn(any());
 	}
 
 	@Test
@@ -159,18 +382,16 @@ class TaskServiceTest {
 		// Arrange
 		PageRequest pageRequest = PageRequest.of(0, 10);
 		@SuppressWarnings("unchecked")
-		Page<Task> tasksPage = mock(Page.class);
-		when(taskRepository.findByUserAndFilters(anyLong(), anyString(), any(), any(), eq(pageRequest)))
-				.thenReturn(tasksPage);
+		Page<TaskSummary> tasksPage = mock(Page.class);
+		when(taskRepository.findSummaries(any(), eq(pageRequest))).thenReturn(tasksPage);
 
 		// Act
-		Page<Task> result = taskService.getTasksByFilters(1L, "Test", Task.TaskStatus.PENDIENTE.toString(),
+		Page<TaskSummary> result = taskService.getTasksByFilters(1L, "Test", Task.TaskStatus.PENDIENTE.toString(),
 				Task.TaskPriority.ALTA.toString(), pageRequest);
 
 		// Assert
 		assertNotNull(result);
-		verify(taskRepository, times(1))
-				.findByUserAndFilters(1L, "Test", Task.TaskStatus.PENDIENTE, Task.TaskPriority.ALTA, pageRequest);
+		verify(taskRepository, times(1)).findSummaries(any(), eq(pageRequest));
 	}
 
 	@Test
@@ -178,14 +399,145 @@ class TaskServiceTest {
 		// Arrange
 		PageRequest pageRequest = PageRequest.of(0, 10);
 		@SuppressWarnings("unchecked")
-		Page<Task> tasksPage = mock(Page.class);
-		when(taskRepository.findAll(pageRequest)).thenReturn(tasksPage);
+		Page<TaskSummary> tasksPage = mock(Page.class);
+		when(taskRepository.findAllSummaries(pageRequest)).thenReturn(tasksPage);
 
 		// Act
-		Page<Task> result = taskService.getAllTasks(pageRequest);
+		Page<TaskSummary> result = taskService.getAllTasks(pageRequest);
 
 		// Assert
 		assertNotNull(result);
-		verify(taskRepository, times(1)).findAll(pageRequest);
+		verify(taskRepository, times(1)).findAllSummaries(pageRequest);
+	}
+
+	@Test
+	void testGetTasksSliceByFiltersSkipsCount() {
+		// Arrange
+		PageRequest pageRequest = PageRequest.of(0, 10);
+		when(taskRepository.findSummarySlice(any(), eq(pageRequest)))
+				.thenReturn(new SliceImpl<>(List.of(summary), pageRequest, true));
+
+		// Act
+		Slice<TaskSummary> result = taskService.getTasksSliceByFilters(null, "Test", "pendiente", null, pageRequest);
+
+		// Assert
+		assertTrue(result.hasNext());
+		assertEquals(1, result.getNumberOfElements());
+		verify(taskRepository, never()).findSummaries(any(), any(Pageable.class));
+		verify(taskRepository, never()).countMatching(any());
+	}
+
+	@Test
+	void testGetTasksSliceByUser() {
+		// Arrange
+		PageRequest pageRequest = PageRequest.of(0, 10);
+		when(taskRepository.findSliceByUsername("user1", pageRequest))
+				.thenReturn(new SliceImpl<>(List.of(summary), pageRequest, false));
+
+		// Act
+		Slice<TaskSummary> result = taskService.getTasksSliceByUser("user1", pageRequest);
+
+		// Assert
+		assertFalse(result.hasNext());
+		verify(taskRepository, never()).findByUsername(anyString(), any());
+	}
+
+	@Test
+	void testCountTasksByFilters() {
+		// Arrange
+		when(taskRepository.countMatching(any())).thenReturn(7L, 42L);
+
+		// Act & Assert
+		assertEquals(7L, taskService.countTasksByFilters(1L, null, "completada", null));
+		assertEquals(42L, taskService.countTasksByFilters(null, null, null, "alta"));
+		assertThrows(IllegalArgumentException.class,
+				() -> taskService.countTasksByFilters(1L, null, "desconocido", null));
+	}
+
+	@Test
+	void testSearchTasks() {
+		// Arrange
+		PageRequest pageRequest = PageRequest.of(0, 10);
+		TaskSummary other = summaryWithId(2L);
+		when(taskRepository.searchIds("+leer* +libro*", 1L, Task.TaskStatus.PENDIENTE, null, pageRequest))
+				.thenReturn(new SliceImpl<>(List.of(2L, 1L), pageRequest, true));
+		when(taskRepository.findSummariesByIdIn(List.of(2L, 1L))).thenReturn(List.of(summary, other));
+
+		// Act
+		Slice<TaskSummary> result = taskService.searchTasks(1L, "  leer, libro ", "pendiente", null, pageRequest);
+
+		// Assert: se conserva el orden de relevancia de la búsqueda
+		assertEquals(List.of(other, summary), result.getContent());
+		assertTrue(result.hasNext());
+	}
+
+	@Test
+	void testSearchTasksWithoutMatches() {
+		// Arrange
+		PageRequest pageRequest = PageRequest.of(0, 10);
+		when(taskRepository.searchIds("+reunión*", null, null, null, pageRequest))
+				.thenReturn(new SliceImpl<>(List.of(), pageRequest, false));
+
+		// Act
+		Slice<TaskSummary> result = taskService.searchTasks(null, "reunión", null, null, pageRequest);
+
+		// Assert
+		assertFalse(result.hasContent());
+		verify(taskRepository, never()).findSummariesByIdIn(any());
+	}
+
+	@Test
+	void testToBooleanModeQuery() {
+		assertEquals("+revisar* +correos*", TaskService.toBooleanModeQuery("Revisar correos"));
+		assertEquals("+copias* +seguridad*", TaskService.toBooleanModeQuery("+copias -\"seguridad\"*"));
+		assertEquals("+canción* +2024*", TaskService.toBooleanModeQuery("canción (2024)"));
+		assertThrows(IllegalArgumentException.class, () -> TaskService.toBooleanModeQuery(" *+- "));
+		assertThrows(IllegalArgumentException.class, () -> TaskService.toBooleanModeQuery(null));
+	}
+
+	@Test
+	void testScrollTasksFirstPage() {
+		// Arrange
+		when(taskRepository.findSummaries(any(), eq(Sort.by("id")), eq(3)))
+				.thenReturn(List.of(summaryWithId(1L), summaryWithId(2L), summaryWithId(5L)));
+
+		// Act
+		CursorPage<TaskSummary> result = taskService.scrollTasksByFilters(1L, null, null, null, null, 2);
+
+		// Assert
+		assertEquals(2, result.content().size());
+		assertTrue(result.hasNext());
+		assertEquals(TaskCursor.encode(2L), result.nextCursor());
+		verify(taskRepository, never()).findSummaries(any(), any(Pageable.class));
+	}
+
+	@Test
+	void testScrollTasksLastPage() {
+		// Arrange
+		when(taskRepository.findSummaries(any(), eq(Sort.by("id")), eq(3)))
+				.thenReturn(List.of(summaryWithId(5L)));
+
+		// Act
+		CursorPage<TaskSummary> result = taskService.scrollTasksByFilters(null, "Test", "pendiente", null,
+				TaskCursor.encode(2L), 2);
+
+		// Assert
+		assertEquals(1, result.content().size());
+		assertFalse(result.hasNext());
+		assertNull(result.nextCursor());
+	}
+
+	@Test
+	void testScrollTasksInvalidCursor() {
+		assertThrows(IllegalArgumentException.class,
+				() -> taskService.scrollTasksByFilters(1L, null, null, null, "no-es-un-cursor", 10));
+		assertThrows(IllegalArgumentException.class,
+				() -> taskService.scrollTasksByFilters(1L, null, null, null, TaskCursor.encode(1L) + "x", 10));
+		verifyNoInteractions(taskRepository);
+	}
+
+	private static TaskSummary summaryWithId(Long id) {
+		return new TaskSummary(id, "Test Task", null, Task.TaskStatus.PENDIENTE, Task.TaskPriority.ALTA, null,
+				"user1", null, null);
 	}
 }
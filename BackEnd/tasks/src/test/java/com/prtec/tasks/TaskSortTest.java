@@ -0,0 +1,38 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.prtec.tasks.application.utils.TaskSort;
+
+class TaskSortTest {
+
+	@Test
+	void testDefaultSortIsById() {
+		assertEquals(Sort.by("id"), TaskSort.parse(null));
+		assertEquals(Sort.by("id"), TaskSort.parse(" "));
+	}
+
+	@Test
+	void testSortEndsWithIdInSameDirection() {
+		assertEquals(Sort.by(Sort.Direction.ASC, "dueDate", "id"), TaskSort.parse("dueDate"));
+		assertEquals(Sort.by(Sort.Direction.DESC, "createdAt", "id"), TaskSort.parse("createdAt,desc"));
+		assertEquals(Sort.by(Sort.Direction.ASC, "updatedAt", "id"), TaskSort.parse("updatedAt, ASC"));
+		assertEquals(Sort.by(Sort.Direction.DESC, "priority", "id"), TaskSort.parse("priority,desc"));
+	}
+
+	@Test
+	void testStatusSortFollowsStatusPriorityIndex() {
+		assertEquals(Sort.by(Sort.Direction.DESC, "status", "priority", "id"), TaskSort.parse("status,desc"));
+	}
+
+	@Test
+	void testRejectsKeysOutsideWhitelist() {
+		assertThrows(IllegalArgumentException.class, () -> TaskSort.parse("title"));
+		assertThrows(IllegalArgumentException.class, () -> TaskSort.parse("userDetails.username"));
+		assertThrows(IllegalArgumentException.class, () -> TaskSort.parse("dueDate,sideways"));
+		assertThrows(IllegalArgumentException.class, () -> TaskSort.parse("dueDate,desc,id"));
+	}
+}
@@ -0,0 +1,104 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.prtec.tasks.application.service.TaskService;
+import com.prtec.tasks.application.utils.TaskSort;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+/**
+ * Verifica que status y priority se guardan como sus códigos de un byte y que
+ * la prioridad ordena por urgencia.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:tasks-codes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskService.class)
+class TaskStatusPriorityCodesTest {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UserDetails owner;
+
+	@BeforeEach
+	void setUp() {
+		owner = new UserDetails();
+		owner.setUserId(1L);
+		owner.setUsername("user1");
+		entityManager.persist(owner);
+	}
+
+	@Test
+	void testCodesAreStable() {
+		// Los códigos están en V4__tasks_status_priority_codes.sql: no deben cambiar
+		assertArrayEquals(new byte[] { 1, 2, 3 }, new byte[] { Task.TaskStatus.PENDIENTE.getCode(),
+				Task.TaskStatus.EN_PROGRESO.getCode(), Task.TaskStatus.COMPLETADA.getCode() });
+		assertArrayEquals(new byte[] { 1, 2, 3 }, new byte[] { Task.TaskPriority.ALTA.getCode(),
+				Task.TaskPriority.MEDIA.getCode(), Task.TaskPriority.BAJA.getCode() });
+
+		for (Task.TaskStatus status : Task.TaskStatus.values()) {
+			assertEquals(status, Task.TaskStatus.fromCode(status.getCode()));
+		}
+		for (Task.TaskPriority priority : Task.TaskPriority.values()) {
+			assertEquals(priority, Task.TaskPriority.fromCode(priority.getCode()));
+		}
+		assertThrows(IllegalArgumentException.class, () -> Task.TaskStatus.fromCode((byte) 0));
+		assertThrows(IllegalArgumentException.class, () -> Task.TaskPriority.fromCode((byte) 4));
+	}
+
+	@Test
+	void testColumnsStoreCodes() {
+		Task task = entityManager.persistFlushFind(
+				new Task("Reunión", null, Task.TaskStatus.EN_PROGRESO, Task.TaskPriority.BAJA, null, owner));
+
+		Map<String, Object> row = jdbcTemplate.queryForMap("SELECT status, priority FROM tasks WHERE id = ?",
+				task.getId());
+		assertEquals(2, ((Number) row.get("status")).intValue());
+		assertEquals(3, ((Number) row.get("priority")).intValue());
+		assertEquals(Task.TaskStatus.EN_PROGRESO, task.getStatus());
+		assertEquals(Task.TaskPriority.BAJA, task.getPriority());
+	}
+
+	@Test
+	void testPrioritySortsByUrgency() {
+		entityManager.persist(new Task("Baja", null, Task.TaskStatus.PENDIENTE, Task.TaskPriority.BAJA, null, owner));
+		entityManager.persist(new Task("Alta", null, Task.TaskStatus.PENDIENTE, Task.TaskPriority.ALTA, null, owner));
+		entityManager.persist(new Task("Media", null, Task.TaskStatus.PENDIENTE, Task.TaskPriority.MEDIA, null, owner));
+		entityManager.flush();
+
+		List<Task.TaskPriority> ascending = taskService.getTasksSliceByFilters(owner.getId(), null, null, null,
+				PageRequest.of(0, 10, TaskSort.parse("priority"))).map(TaskSummary::priority).getContent();
+		List<Task.TaskPriority> descending = taskService.getTasksSliceByFilters(owner.getId(), null, null, null,
+				PageRequest.of(0, 10, TaskSort.parse("priority,desc"))).map(TaskSummary::priority).getContent();
+
+		assertEquals(List.of(Task.TaskPriority.ALTA, Task.TaskPriority.MEDIA, Task.TaskPriority.BAJA), ascending);
+		assertEquals(List.of(Task.TaskPriority.BAJA, Task.TaskPriority.MEDIA, Task.TaskPriority.ALTA), descending);
+	}
+}
@@ -0,0 +1,170 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.prtec.tasks.application.cache.TokenVerificationCoalescer;
+import com.prtec.tasks.application.config.AuthClientProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenVerificationCoalescerTest {
+	private static final String TOKEN = "header.payload.signature";
+
+	@Test
+	void testConcurrentVerificationsShareOneCall() throws Exception {
+		TokenVerificationCoalescer coalescer = new TokenVerificationCoalescer();
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger remoteCalls = new AtomicInteger();
+		int threads = 8;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> coalescer.verify(TOKEN, () -> {
+					remoteCalls.incrementAndGet();
+					await(release);
+					return true;
+				}, () -> false)));
+			}
+
+			// Esperar a que todos menos el primero estén esperando la llamada en curso
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (coalescer.getCoalescedCalls() < threads - 1 && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			release.countDown();
+
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, remoteCalls.get());
+		assertEquals(1, coalescer.getRemoteCalls());
+		assertEquals(threads - 1, coalescer.getCoalescedCalls());
+	}
+
+	@Test
+	void testSequentialVerificationsAreNotCoalesced() {
+		TokenVerificationCoalescer coalescer = new TokenVerificationCoalescer();
+
+		assertFalse(coalescer.verify(TOKEN, () -> false, () -> true));
+		assertTrue(coalescer.verify(TOKEN, () -> true, () -> false));
+
+		assertEquals(2, coalescer.getRemoteCalls());
+		assertEquals(0, coalescer.getCoalescedCalls());
+	}
+
+	@Test
+	void testFailedCallIsNotReused() {
+		TokenVerificationCoalescer coalescer = new TokenVerificationCoalescer();
+
+		assertThrows(IllegalStateException.class, () -> coalescer.verify(TOKEN, () -> {
+			throw new IllegalStateException("error");
+		}, () -> false));
+		assertTrue(coalescer.verify(TOKEN, () -> true, () -> false));
+	}
+
+	@Test
+	void testWaitingCallerGetsLeaderException() throws Exception {
+		TokenVerificationCoalescer coalescer = new TokenVerificationCoalescer();
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Boolean> leader = executor.submit(() -> coalescer.verify(TOKEN, () -> {
+				await(release);
+				throw new IllegalStateException("error");
+			}, () -> false));
+			awaitCoalesced(coalescer, 0);
+			Future<Boolean> waiter = executor.submit(() -> coalescer.verify(TOKEN, () -> true, () -> false));
+			awaitCoalesced(coalescer, 1);
+			release.countDown();
+
+			// Sin CompletionException: la misma excepción que recibe quien hizo la llamada
+			assertInstanceOf(IllegalStateException.class,
+					assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+			assertInstanceOf(IllegalStateException.class,
+					assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause());
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testWaitingCallerStopsAtTimeout() throws Exception {
+		// La espera sale de totalTimeout, no de la suma de los timeouts por etapa
+		AuthClientProperties properties = new AuthClientProperties();
+		properties.setReadTimeout(Duration.ofSeconds(30));
+		properties.setTotalTimeout(Duration.ofMillis(50));
+		TokenVerificationCoalescer coalescer = new TokenVerificationCoalescer(properties);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> coalescer.verify(TOKEN, () -> {
+				await(release);
+				return true;
+			}, () -> false));
+			awaitCoalesced(coalescer, 0);
+
+			// La llamada sigue en curso: la solicitud que espera usa su resultado alternativo
+			long start = System.nanoTime();
+			assertFalse(coalescer.verify(TOKEN, () -> true, () -> false));
+			assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+			assertEquals(1, coalescer.getCoalescedCalls());
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testMetrics() {
+		TokenVerificationCoalescer coalescer = new TokenVerificationCoalescer();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		coalescer.bindTo(registry);
+
+		coalescer.verify(TOKEN, () -> true, () -> false);
+
+		assertEquals(1.0, registry.get("jwt.verify.remote.calls").functionCounter().count());
+		assertEquals(0.0, registry.get("jwt.verify.remote.coalesced").functionCounter().count());
+		assertEquals(0.0, registry.get("jwt.verify.remote.in-flight").gauge().value());
+	}
+
+	// Espera a que la primera llamada esté en curso (in-flight) y a que haya
+	// waiting solicitudes esperándola
+	private static void awaitCoalesced(TokenVerificationCoalescer coalescer, long waiting)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while ((coalescer.getRemoteCalls() < 1 || coalescer.getCoalescedCalls() < waiting)
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
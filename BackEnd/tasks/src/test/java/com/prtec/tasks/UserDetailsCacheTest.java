@@ -0,0 +1,96 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.prtec.tasks.adapter.out.repository.IUserDetailsRepository;
+import com.prtec.tasks.application.cache.UserDetailsCache;
+import com.prtec.tasks.application.service.TaskService;
+import com.prtec.tasks.application.service.UserDetailsService;
+import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:tasks-users;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ UserDetailsService.class, UserDetailsCache.class, TaskService.class })
+class UserDetailsCacheTest {
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	@Autowired
+	private UserDetailsCache userDetailsCache;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private IUserDetailsRepository userDetailsRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		userDetailsCache.invalidate(1L);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void testCreateTaskIsSingleInsertOnceUserIsCached() {
+		// Primera solicitud: busca el usuario y lo crea
+		UserDetails created = userDetailsService.findOrCreateUser(1L, "user1");
+		assertNotNull(created.getId());
+		assertEquals(1, userDetailsRepository.count());
+
+		// Con el optimizador pooled las dos primeras lecturas de tasks_seq fijan el
+		// bloque de ids; las siguientes tareas no consultan la secuencia
+		taskService.createTask(newTask(created));
+		taskService.createTask(newTask(created));
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		UserDetails cached = userDetailsService.findOrCreateUser(1L, "user1");
+		Task task = taskService.createTask(newTask(cached));
+		entityManager.flush();
+
+		assertEquals(created.getId(), cached.getId());
+		assertEquals("user1", task.getUserDetails().getUsername());
+		assertEquals(1, statistics.getEntityInsertCount());
+		assertEquals(1, statistics.getPrepareStatementCount(),
+				"sentencias preparadas: " + statistics.getPrepareStatementCount());
+	}
+
+	private static Task newTask(UserDetails owner) {
+		Task task = new Task();
+		task.setTitle("Tarea");
+		task.setStatus(Task.TaskStatus.PENDIENTE);
+		task.setPriority(Task.TaskPriority.MEDIA);
+		task.setUserDetails(owner);
+		return task;
+	}
+}
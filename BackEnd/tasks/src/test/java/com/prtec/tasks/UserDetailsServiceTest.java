@@ -2,12 +2,15 @@ package com.prtec.tasks;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.prtec.tasks.application.cache.UserDetailsCache;
 import com.prtec.tasks.application.service.UserDetailsService;
 import com.prtec.tasks.adapter.out.repository.IUserDetailsRepository;
 import com.prtec.tasks.domain.model.entity.UserDetails;
@@ -16,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 
@@ -24,6 +29,9 @@ class UserDetailsServiceTest {
 	@Mock
 	private IUserDetailsRepository repository;
 
+	@Spy
+	private UserDetailsCache userDetailsCache = new UserDetailsCache();
+
 	@InjectMocks
 	private UserDetailsService userDetailsService;
 
@@ -139,4 +147,55 @@ class UserDetailsServiceTest {
 		verify(repository, times(1)).findByUsername("nuevoUser");
 		verify(repository, times(1)).save(any(UserDetails.class));
 	}
+
+	@Test
+	void testFindOrCreateUser_usesCacheAfterFirstCall() {
+		userDetails.setId(7L);
+		when(repository.findByUsername("testUser")).thenReturn(Optional.of(userDetails));
+
+		UserDetails first = userDetailsService.findOrCreateUser(1L, "testUser");
+		UserDetails second = userDetailsService.findOrCreateUser(1L, "testUser");
+
+		// Segunda llamada sin consultas y con una copia propia del registro
+		assertEquals(7L, second.getId());
+		assertEquals("Test", second.getFirstName());
+		assertNotSame(first, second);
+		verify(repository, times(1)).findByUsername("testUser");
+	}
+
+	@Test
+	void testSaveOrUpdateUserDetails_invalidatesCache() {
+		when(repository.findByUsername("testUser")).thenReturn(Optional.of(userDetails));
+		when(repository.findById(1L)).thenReturn(Optional.of(userDetails));
+		when(repository.save(any(UserDetails.class))).thenReturn(userDetails);
+
+		userDetailsService.findOrCreateUser(1L, "testUser");
+		userDetailsService.saveOrUpdateUserDetails(1L, "testUser", "testuser@example.com", "Nuevo", "Nombre");
+		UserDetails result = userDetailsService.findOrCreateUser(1L, "testUser");
+
+		assertEquals("Nuevo", result.getFirstName());
+		verify(userDetailsCache).invalidate(1L);
+		verify(repository, times(2)).findByUsername("testUser");
+	}
+
+	@Test
+	void testFindOrCreateUser_whenConcurrentInsertWins() {
+		// Otra solicitud inserta el usuario entre la consulta y el INSERT
+		userDetails.setId(7L);
+		when(repository.findByUsername("testUser"))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(userDetails));
+		when(repository.save(any(UserDetails.class)))
+				.thenThrow(new DataIntegrityViolationException("uk_user_details_username"));
+
+		UserDetails result = userDetailsService.findOrCreateUser(1L, "testUser");
+
+		assertEquals(7L, result.getId());
+		verify(repository, times(2)).findByUsername("testUser");
+
+		// El registro queda en cache para las siguientes solicitudes
+		userDetailsService.findOrCreateUser(1L, "testUser");
+		verify(repository, times(2)).findByUsername("testUser");
+		verify(repository, never()).findById(any());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.prtec.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.prtec.tasks.application.cache.VerifiedTokenCache;
+import com.prtec.tasks.application.config.JwtProperties;
+
+class VerifiedTokenCacheTest {
+	private static final String TOKEN = "header.payload.signature";
+
+	private JwtProperties jwtProperties;
+
+	@BeforeEach
+	void setUp() {
+		jwtProperties = new JwtProperties();
+		jwtProperties.getCache().setMaxSize(2);
+		jwtProperties.getCache().setTtl(Duration.ofMinutes(5));
+	}
+
+	@Test
+	void testMarkVerifiedAndHit() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+
+		assertFalse(cache.isVerified(TOKEN));
+		cache.markVerified(TOKEN, new Date(System.currentTimeMillis() + 60_000));
+		assertTrue(cache.isVerified(TOKEN));
+
+		assertEquals(1, cache.stats().hitCount());
+		assertEquals(1, cache.stats().missCount());
+	}
+
+	@Test
+	void testExpiredTokenIsNotCached() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+
+		cache.markVerified(TOKEN, new Date(System.currentTimeMillis() - 1_000));
+
+		assertFalse(cache.isVerified(TOKEN));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void testZeroTtlExpiresImmediately() {
+		jwtProperties.getCache().setTtl(Duration.ZERO);
+		VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+
+		cache.markVerified(TOKEN, new Date(System.currentTimeMillis() + 60_000));
+
+		assertFalse(cache.isVerified(TOKEN));
+	}
+
+	@Test
+	void testSizeIsBounded() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+		Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+		for (int i = 0; i < 10; i++) {
+			cache.markVerified(TOKEN + i, expiration);
+		}
+
+		assertTrue(cache.size() <= 2);
+		assertTrue(cache.stats().evictionCount() >= 8);
+	}
+
+	@Test
+	void testDisabledCache() {
+		jwtProperties.getCache().setEnabled(false);
+		VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties);
+
+		cache.markVerified(TOKEN, new Date(System.currentTimeMillis() + 60_000));
+
+		assertFalse(cache.isVerified(TOKEN));
+		assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,103 @@
+package com.prtec.tasks.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prtec.tasks.domain.model.dto.ApiResponseDTO;
+import com.prtec.tasks.domain.model.dto.PageResponse;
+import com.prtec.tasks.domain.model.dto.TaskSummary;
+import com.prtec.tasks.domain.model.entity.Task;
+import com.prtec.tasks.domain.model.entity.UserDetails;
+
+/**
+ * Comparación del JSON de un listado de tareas: entidades Task dentro de
+ * PageImpl (respuesta anterior) frente a {@link TaskSummary} dentro de
+ * {@link PageResponse}.
+ *
+ * <p>
+ * Al preparar cada caso se imprime el tamaño del JSON en bytes. Con -prof gc
+ * se ven también las asignaciones por respuesta (gc.alloc.rate.norm):
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskListSerializationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListSerializationBenchmark {
+
+	@Param("100")
+	private int pageSize;
+
+	private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+	private ApiResponseDTO<PageImpl<Task>> entityResponse;
+	private ApiResponseDTO<PageResponse<TaskSummary>> summaryResponse;
+
+	@Setup
+	public void setUp() throws Exception {
+		UserDetails owner = new UserDetails();
+		owner.setId(1L);
+		owner.setUserId(1L);
+		owner.setUsername("usuario");
+		owner.setEmail("usuario@correo.com");
+		owner.setFirstName("Nombre");
+		owner.setLastName("Apellido");
+
+		List<Task> tasks = new ArrayList<>();
+		List<TaskSummary> summaries = new ArrayList<>();
+		for (long id = 1; id <= pageSize; id++) {
+			Task task = new Task("Tarea " + id, "Descripción de la tarea " + id, Task.TaskStatus.PENDIENTE,
+					Task.TaskPriority.MEDIA, LocalDate.of(2025, 1, 1), owner);
+			task.setId(id);
+			task.setCreatedAt(LocalDateTime.of(2025, 1, 1, 8, 0));
+			task.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 8, 0));
+			tasks.add(task);
+			summaries.add(new TaskSummary(id, task.getTitle(), task.getDescription(), task.getStatus(),
+					task.getPriority(), task.getDueDate(), owner.getUsername(), owner.getFirstName(),
+					owner.getLastName()));
+		}
+
+		PageRequest pageRequest = PageRequest.of(0, pageSize);
+		entityResponse = new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, ApiResponseDTO.OK,
+				new PageImpl<>(tasks, pageRequest, 1000));
+		summaryResponse = new ApiResponseDTO<>(ApiResponseDTO.Status.SUCCESS, ApiResponseDTO.OK,
+				PageResponse.of(new PageImpl<>(summaries, pageRequest, 1000)));
+
+		System.out.printf("%nBytes por respuesta: entidades=%d, proyección=%d%n",
+				mapper.writeValueAsBytes(entityResponse).length, mapper.writeValueAsBytes(summaryResponse).length);
+	}
+
+	@Benchmark
+	public byte[] entityPage() throws Exception {
+		return mapper.writeValueAsBytes(entityResponse);
+	}
+
+	@Benchmark
+	public byte[] summaryPage() throws Exception {
+		return mapper.writeValueAsBytes(summaryResponse);
+	}
+}
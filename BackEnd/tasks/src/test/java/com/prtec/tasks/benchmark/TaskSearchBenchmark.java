@@ -0,0 +1,163 @@
+package com.prtec.tasks.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.prtec.tasks.application.service.TaskService;
+
+/**
+ * Comparación entre el filtro por título con LIKE '%..%' (recorre toda la tabla)
+ * y la búsqueda FULLTEXT ordenada por relevancia que usa
+ * {@link TaskService#searchTasks}.
+ *
+ * <p>
+ * Requiere un MySQL 8 accesible. La primera ejecución crea la tabla
+ * tasks_search_bench con el mismo esquema e índice que tasks y la llena con
+ * {@code rows} filas (por defecto un millón).
+ * </p>
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskSearchBenchmark \
+ *     -p jdbcUrl=jdbc:mysql://localhost:3306/prtec_task_db -p user=root -p password=root"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskSearchBenchmark {
+	private static final String TABLE = "tasks_search_bench";
+	private static final String[] WORDS = { "revisar", "correos", "preparar", "informe", "reunión", "llamar",
+			"cliente", "comprar", "materiales", "organizar", "documentos", "estudiar", "proyecto", "enviar",
+			"factura", "actualizar", "servidor", "planear", "viaje", "cocinar" };
+	// Término presente en ~1 de cada 10.000 filas
+	private static final String RARE_WORD = "auditoría";
+
+	@Param("jdbc:mysql://localhost:3306/prtec_task_db")
+	public String jdbcUrl;
+
+	@Param("root")
+	public String user;
+
+	@Param("root")
+	public String password;
+
+	@Param("1000000")
+	public int rows;
+
+	private Connection connection;
+	private PreparedStatement likeQuery;
+	private PreparedStatement fullTextQuery;
+
+	@Setup
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection(jdbcUrl + "?rewriteBatchedStatements=true", user, password);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+					+ "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+					+ "title VARCHAR(255) COLLATE utf8mb4_general_ci NOT NULL, "
+					+ "description VARCHAR(500) COLLATE utf8mb4_general_ci, "
+					+ "FULLTEXT KEY ft_title_description (title, description))");
+		}
+		seed();
+
+		likeQuery = connection.prepareStatement("SELECT id FROM " + TABLE
+				+ " WHERE LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) LIMIT 10");
+		fullTextQuery = connection.prepareStatement("SELECT id FROM " + TABLE
+				+ " WHERE MATCH(title, description) AGAINST(? IN BOOLEAN MODE)"
+				+ " ORDER BY MATCH(title, description) AGAINST(? IN BOOLEAN MODE) DESC, id LIMIT 10");
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public List<Long> likeScan() throws SQLException {
+		likeQuery.setString(1, RARE_WORD);
+		return ids(likeQuery);
+	}
+
+	@Benchmark
+	public List<Long> fullTextSearch() throws SQLException {
+		String query = TaskService.toBooleanModeQuery(RARE_WORD);
+		fullTextQuery.setString(1, query);
+		fullTextQuery.setString(2, query);
+		return ids(fullTextQuery);
+	}
+
+	private static List<Long> ids(PreparedStatement query) throws SQLException {
+		List<Long> ids = new ArrayList<>(10);
+		try (ResultSet resultSet = query.executeQuery()) {
+			while (resultSet.next()) {
+				ids.add(resultSet.getLong(1));
+			}
+		}
+		return ids;
+	}
+
+	private void seed() throws SQLException {
+		int existing;
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+			resultSet.next();
+			existing = resultSet.getInt(1);
+		}
+
+		SplittableRandom random = new SplittableRandom(42);
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO " + TABLE + " (title, description) VALUES (?, ?)")) {
+			for (int i = existing; i < rows; i++) {
+				String title = words(random, 3) + (i % 10_000 == 0 ? " " + RARE_WORD : "");
+				insert.setString(1, title);
+				insert.setString(2, words(random, 8));
+				insert.addBatch();
+				if (i % 5_000 == 0) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+			insert.executeBatch();
+			connection.commit();
+		} finally {
+			connection.setAutoCommit(true);
+		}
+	}
+
+	private static String words(SplittableRandom random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return text.toString();
+	}
+}
@@ -138,10 +138,10 @@ export class TasksComponent implements OnInit {
 			next: (response: any) => {
 				if (response.status === 'SUCCESS') {
 					this.tasks = response.data.content;
-					this.currentPage = response.data.pageable.pageNumber;
+					this.currentPage = response.data.page;
 					this.totalPages = response.data.totalPages - 1;
-					this.firstPage = response.data.first;
-					this.lastPage = response.data.last;
+					this.firstPage = response.data.page === 0;
+					this.lastPage = !response.data.hasNext;
 				}
 			},
 			error: (error: any) => {
@@ -253,9 +253,9 @@ export class TasksComponent implements OnInit {
 			if (response.status === 'SUCCESS' && response.data) {
 				this.tasks = response.data.content;
 				this.totalPages = response.data.totalPages - 1;
-				this.currentPage = response.data.pageable.pageNumber;
-				this.firstPage = response.data.first;
-				this.lastPage = response.data.last;
+				this.currentPage = response.data.page;
+				this.firstPage = response.data.page === 0;
+				this.lastPage = !response.data.hasNext;
 				this.isFiltered = true;
 			}
 		});
@@ -2,6 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { ApiResponse } from '../../../models/general/ApiResponse';
+import { PageResponse } from '../../../models/general/PageResponse';
 import { Task } from '../models/entities/Task';
 import { constants } from '../../../config/constants';
 
@@ -28,9 +29,9 @@ export class TaskService {
 	 * Obtiene las tareas del usuario autenticado (paginado).
 	 * @param page Número de página
 	 * @param size Tamaño de página
-	 * @returns Observable con la respuesta de tipo ApiResponse<Task[]>
+	 * @returns Observable con la respuesta de tipo ApiResponse<PageResponse<Task>>
 	 */
-	getUserTasks(page: number, size: number): Observable<ApiResponse<Task[]>> {
+	getUserTasks(page: number, size: number): Observable<ApiResponse<PageResponse<Task>>> {
 		let url = `${constants.task.tasks}/getAll`;
 		const params: string[] = [];
 
@@ -38,16 +39,16 @@ export class TaskService {
 		if (size !== undefined) params.push(`size=${size}`);
 		if (params.length > 0) url += `?${params.join('&')}`;
 
-		return this.http.get<ApiResponse<Task[]>>(url);
+		return this.http.get<ApiResponse<PageResponse<Task>>>(url);
 	}
 
 	/**
 	 * Obtiene todas las tareas del sistema (sólo para administradores).
 	 * @param page Número de página
 	 * @param size Tamaño de página
-	 * @returns Observable con la respuesta de tipo ApiResponse<Task[]>
+	 * @returns Observable con la respuesta de tipo ApiResponse<PageResponse<Task>>
 	 */
-	getAllTasks(page: number, size: number): Observable<ApiResponse<Task[]>> {
+	getAllTasks(page: number, size: number): Observable<ApiResponse<PageResponse<Task>>> {
 		let url = `${constants.task.tasks}/admin/getAll`;
 		const params: string[] = [];
 
@@ -55,7 +56,7 @@ export class TaskService {
 		if (size !== undefined) params.push(`size=${size}`);
 		if (params.length > 0) url += `?${params.join('&')}`;
 
-		return this.http.get<ApiResponse<Task[]>>(url);
+		return this.http.get<ApiResponse<PageResponse<Task>>>(url);
 	}
 
 	/**
@@ -102,7 +103,7 @@ export class TaskService {
 	 * @param page Número de página
 	 * @param size Tamaño de página
 	 * @param admin Si es true, usa el endpoint de administración
-	 * @returns Observable con la respuesta de tipo ApiResponse<Task[]>
+	 * @returns Observable con la respuesta de tipo ApiResponse<PageResponse<Task>>
 	 */
 	filterTasks(
 		title: string,
@@ -111,7 +112,7 @@ export class TaskService {
 		page: number,
 		size: number,
 		admin: boolean = false
-	): Observable<ApiResponse<Task[]>> {
+	): Observable<ApiResponse<PageResponse<Task>>> {
 		const queryParams = new URLSearchParams();
 
 		if (title) queryParams.append('title', title);
@@ -124,7 +125,7 @@ export class TaskService {
 		const basePath = 'filter';
 		const url = `${constants.task.tasks}/${basePath}?${queryParams.toString()}`;
 
-		return this.http.get<ApiResponse<Task[]>>(url);
+		return this.http.get<ApiResponse<PageResponse<Task>>>(url);
 	}
 
 	/**
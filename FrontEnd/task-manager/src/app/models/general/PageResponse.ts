@@ -0,0 +1,8 @@
+export interface PageResponse<T> {
+	content: T[];
+	page: number;
+	size: number;
+	hasNext: boolean;
+	totalElements?: number;
+	totalPages?: number;
+}
\ No newline at end of file